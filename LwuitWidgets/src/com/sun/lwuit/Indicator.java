@@ -1,937 +1,2599 @@
-package com.sun.lwuit;
-
-import com.sun.lwuit.geom.Dimension;
-import com.sun.lwuit.plaf.IndicatorLookAndFeel;
-import com.sun.lwuit.plaf.UIManager;
-import java.io.IOException;
-
-/**
- * Widget to show the navigation indicator.
- * <pre>
- * 
- *                Dimmed-----|   |---- Undimmed
- *                           |   |
- *              |-----------------------------------------|
- *              |   <<   <   *   @   *   *   *   >   >>   |
- *              |-----------------------------------------|
- *                  |    |  |                 |  |   |
- *                  |    |  |-----------------|  |   |
- *          |--------    |        Timeline       |   ------------|
- *          |            |                       |               |
- *          |       Navigation                Navigation         |
- *          |        Previous                   Next             |
- *          |                                                    |
- *          |                                                    |
- *      Navigation                                           Navigation
- *        First                                                 Last
- * </pre>
- * <br>
-  * <b>NOTE:</b>
- * <ul>
- *  <li>Navigation First and Last constitute to be Navigation Ends
- *  <li>Navigation Previous and Next constitute to be Navigation Increment
- * </ul>
- * <br>
- * <b>Use Case:</b>
- * <ul>
- *  <li>To navigation indicators for a paginated view, like in RSS feed readers on Android's
- * </ul>
- * <br>
- * 
- * @since LWUIT 1.4
- * 
- * @version 1.0
- * 
- * @author Vimal ( vimal.lwuit@ymail.com )
- */
-public class Indicator extends Component implements IndicatorEventListener {
-
-    private static final int DEFAULT_GAP = 2;
-    
-    /** Show no navigation */ 
-    public static final int BEHAVIOUR_SHOW_NAVGATION_NONE = 1;
-	
-    /** Show navigation always when more than the group count */
-    public static final int BEHAVIOUR_SHOW_NAVGATION_ALWAYS = 2;
-    
-    /** Show navigation only when 1st or last dot in the indicator is selected */
-    public static final int BEHAVIOUR_SHOW_NAVGATION_WHEN_BESIDE = 3;
-    
-    public static final int TYPE_IMAGES = 1;
-    
-    public static final int TYPE_RAW_DOTS = 2;
-    
-    public static final int TYPE_RAW_BOX = 3;
-    
-    public static final int TYPE_RAW_OVALS = 4;
-    
-    public static final int TYPE_RAW_NUMBERS = 5;
-    
-    public static final int ORIENTATION_HORIZONTAL = 1;
-    
-    public static final int ORIENTATION_VERTICAL = 2;
-    
-    private Image[] nonFocusedImages = null;
-    
-    private Image[] focusedImages = null;
-    
-    private int behaviour;
-    
-    private int type;
-    
-    private int orientation;
-    
-    private int valign = CENTER;
-    
-    /** Number of items in the time-line */
-    private int maxTimelineItems = 5;
-
-    private int gap = DEFAULT_GAP;
-
-    private int naviToItemGap = DEFAULT_GAP;
-    
-    private int naviGap = DEFAULT_GAP;
-    
-    private int naviToBorderGap = DEFAULT_GAP;
-    
-    /** Indicator quantum */
-    private int quantum = 1;
-    
-    /** Indicator iteration */
-    private int current = -1;
-    
-    /** Total indicator iterations */
-    private int total = 1;
-    
-    /** Show 'previous' and 'next' navigation in the componenet */
-    private boolean showIncrement = true;
-    
-    /** Show 'first' and 'last' navigation in the componenet */
-    private boolean showEnds = true;
-    
-    /** 
-     * Constructs a new indicator with default type.
-     */
-    public Indicator() {
-        this(TYPE_RAW_DOTS, BEHAVIOUR_SHOW_NAVGATION_ALWAYS, null, null);
-    }
-    
-    /** 
-     * Constructs a new indicator with given type.
-     * 
-     * @param type the type of the indicator
-     */
-    public Indicator(int type) {
-        this(type, BEHAVIOUR_SHOW_NAVGATION_ALWAYS, null, null);
-    }
-    
-    /** 
-     * Constructs a new indicator with given type.
-     * 
-     * @param type the type of the indicator
-     */
-    public Indicator(int type, int behaviour, String imagesFolderPath, String append) {
-        //setUIID("Indicator");
-        setFocusable(false);
-        setType(type);
-        setBehaviour(behaviour);
-        setVerticalAlignment(CENTER);
-        setOrientation(ORIENTATION_HORIZONTAL);
-        localize();
-        loadImages(imagesFolderPath,append);
-        
-    }
-    
-    /**
-     * Set the behavior of the component.
-     * 
-     * @param behaviour the behavior of the component
-     * 
-     * @see #BEHAVIOUR_SHOW_NAVGATION_NONE
-     * @see #BEHAVIOUR_SHOW_NAVGATION_ALWAYS
-     * @see #BEHAVIOUR_SHOW_NAVGATION_WHEN_BESIDE
-     */
-    public void setBehaviour(int behaviour) {
-        if(behaviour < BEHAVIOUR_SHOW_NAVGATION_NONE 
-                || behaviour > BEHAVIOUR_SHOW_NAVGATION_WHEN_BESIDE) {
-            behaviour = BEHAVIOUR_SHOW_NAVGATION_NONE;
-        }
-        boolean change = this.behaviour != behaviour;
-        this.behaviour = behaviour;
-        if(change) {
-            shouldCalcPreferredSize = true;
-        }
-    }
-    
-    /**
-     * Set the orientation of the component.
-     * 
-     * @param orientation the orientation of the component
-     * 
-     * @see #ORIENTATION_HORIZONTAL
-     * @see #ORIENTATION_VERTICAL
-     */
-    public void setOrientation(int orientation) {
-        boolean change = this.orientation != orientation;
-        this.orientation = orientation;
-        if(change) {
-            shouldCalcPreferredSize = true;
-        }
-    }
-    
-    /**
-     * Sets the focused images of the component. 
-     * The order of the images is {dimmed, undimmed, previous, next, first, last}
-     * 
-     * @param imgs the array of images
-     */
-    public void setFocusedImages(Image[] imgs) {
-        if(null == imgs) {
-            return;
-        }
-        focusedImages = new Image[imgs.length];
-        System.arraycopy(imgs, 0, focusedImages, 0, focusedImages.length);
-        shouldCalcPreferredSize = true;
-    }
-
-    /**
-     * Sets the non focused images of the component. 
-     * The order of the images is {dimmed, undimmed, previous, next, first, last}
-     * 
-     * @param the array of images
-     */
-    public void setNonFocusedImages(Image[] imgs) {
-        if(null == imgs) {
-            return;
-        }
-        nonFocusedImages = new Image[imgs.length];
-        System.arraycopy(imgs, 0, nonFocusedImages, 0, nonFocusedImages.length);
-        shouldCalcPreferredSize = true;
-    }
-    
-    /**
-     * Set the number of visible indicators in the component timeline.
-     * <b>NOTE:</b> If timeline items are greater than {@link #getTotal()}
-     * than timeline will be reduced to the latter's value.
-     * 
-     * @param maxTimelineItems the number of visible indicators in timeline
-     */
-    public void setMaxTimelineItems(int maxTimelineItems) {
-        boolean change = this.maxTimelineItems != maxTimelineItems
-                && this.total != maxTimelineItems && this.maxTimelineItems != this.total;
-        this.maxTimelineItems = this.total < maxTimelineItems ? this.total : maxTimelineItems;
-        if(change) {
-            shouldCalcPreferredSize = true;
-        }
-    }
-
-    /**
-     * Set the gap in pixels between the icon/text to the navigation in the component
-     * 
-     * @param gap the gap in pixels
-     */
-    public void setGap(int gap) {
-        boolean change = this.gap != gap;
-        this.gap = gap;
-        if(change) {
-            shouldCalcPreferredSize = true;
-        }
-    }
-
-    /**
-     * Set the gap in pixels between the time-line item/text to the navigation increment
-     * 
-     * @param gap the gap in pixels
-     */
-    public void setNavigationToItemGap(int navigationToItemGap) {
-        boolean change = this.naviToItemGap != navigationToItemGap;
-        this.naviToItemGap = navigationToItemGap;
-        if(change) {
-            shouldCalcPreferredSize = true;
-        }
-    }
-
-    /**
-     * Set the gap in pixels between navigation increment and navigation ends
-     * 
-     * @param gap the gap in pixels
-     */
-    public void setNavigationGap(int navigationGap) {
-        boolean change = this.naviGap != navigationGap;
-        this.naviGap = navigationGap;
-        if(change) {
-            shouldCalcPreferredSize = true;
-        }
-    }
-
-    /**
-     * Set the gap in pixels between navigation ends and component border
-     * 
-     * @param gap the gap in pixels
-     */
-    public void setNavigationToBorderGap(int navigationToBorderGap) {
-        boolean change = this.naviToBorderGap != navigationToBorderGap;
-        this.naviToBorderGap = navigationToBorderGap;
-        if(change) {
-            shouldCalcPreferredSize = true;
-        }
-    }
-
-    /**
-     * Set the navigation increment state (TRUE/FALSE) in the component
-     * 
-     * @param show show the navigation
-     */
-    public void setNavigationIncrement(boolean show) {
-        boolean change = this.showIncrement != show;
-        this.showIncrement = show;
-
-        //Since navigation increment is not shown, is doesn't make sense
-        //to keep the gapping between navigations 'ends' and 'increment'.
-        if(!this.showIncrement) {
-            setNavigationGap(0);
-
-            //Since both navigation increment and navigation ends 
-            //are not shown, so removing the navigation to item gapping.
-            if(!this.showEnds) {
-                setNavigationToBorderGap(0);
-                setNavigationToItemGap(0);
-            }
-
-        } else {
-            //Since navigation increment is shown but navigation ends is not shown,
-            //so it doesn't make sense to keep the inbetween navigation gap.
-            if(!this.showEnds) {
-                setNavigationGap(0);
-            }
-        }
-        if(change) {
-            shouldCalcPreferredSize = true;
-        }
-    }
-
-    /**
-     * Set the navigation ends state (TRUE/FALSE) in the component
-     * 
-     * @param show show the navigation
-     */
-    public void setNavigationEnds(boolean show) {
-        boolean change = this.showEnds != show;
-        this.showEnds = show;
-
-        //Since navigation ends is not shown, is doesn't make sense
-        //to keep the gapping between navigations 'ends' and 'increment'
-        if (!this.showEnds) {
-            setNavigationGap(0);
-
-            //Since both navigation increment and navigation ends
-            //are not shown, so removing the navigation to item gapping.
-            if (!showIncrement) {
-                setNavigationToBorderGap(0);
-                setNavigationToItemGap(0);
-            }
-
-        } else {
-            //Since navigation increment is shown but navigation ends is not shown,
-            //so it doesn't make sense to keep the inbetween navigation gap.
-            if(!this.showIncrement) {
-                setNavigationGap(0);
-            }
-        }
-        if(change) {
-            shouldCalcPreferredSize = true;
-        }
-    }
-
-    /**
-     * Set the quantum for component
-     * 
-     * @param quantum the quantum to set
-     */
-    public void setQuantum(int quantum) {
-        boolean change = this.quantum != quantum;
-        this.quantum = Math.max(0, quantum);
-        if(change) {
-            shouldCalcPreferredSize = true;
-        }
-    }
-
-    /**
-     * Set the total for component
-     * 
-     * @param total the total to set
-     */
-    public void setTotal(int total) {
-        boolean change = this.total != total;
-        this.total = Math.max(0, total);
-        if (this.total < this.quantum) {
-            this.quantum = this.total;
-        }
-        if(change) {
-            shouldCalcPreferredSize = true;
-        }
-    }
-
-    /**
-     * Set the type of component: 
-     * {@link #TYPE_IMAGES}
-     * 
-     * @param type the type to set
-     * 
-     * @see #TYPE_IMAGES
-     */
-    public void setType(int type) {
-        if(type < TYPE_IMAGES || type > TYPE_RAW_NUMBERS) {
-            type = TYPE_IMAGES;
-        }
-        
-    	//FIXME Patch to set the type for IMAGES always, 
-        //will change when RAW mode is implemented
-        if(type != TYPE_IMAGES) {
-            type = TYPE_IMAGES;
-        }
-        boolean change = this.type != type;
-        this.type = type;
-        if(change) {
-            shouldCalcPreferredSize = true;
-        }
-    }
-
-    /**
-     * Set the vertical alignment of the component
-     * 
-     * @param valign the vertical align to set
-     */
-    public void setVerticalAlignment(int valign) {
-    	//FIXME Patch to set the vertical aligment to CENTER always, 
-        //will change when other vAlignments are implemented
-        if(valign != Component.CENTER) {
-            valign = Component.CENTER;
-        }
-        boolean change = this.valign != valign;
-        this.valign = valign;
-        if(change) {
-            shouldCalcPreferredSize = true;
-        }
-    }
-    
-    /**
-     * Returns the vertical alignment of the Indicator.
-     * 
-     * @return the vertical alignment of the component one of: CENTER
-     * @see #CENTER
-     */
-    public int getVerticalAlignment(){
-        return valign;
-    }
-    
-    /**
-     * Returns the behavior of the component
-     * 
-     * @return the behavior of the component
-     */
-    public int getBehaviour() {
-        return behaviour;
-    }
-    
-    /**
-     * Returns the orientation of the component
-     * 
-     * @return the orientation of the component
-     */
-    public int getOrientation() {
-        return orientation;
-    }
-
-    /**
-     * Returns the current indicator
-     * 
-     * @return the current
-     */
-    public int getCurrent() {
-        return current;
-    }
-
-    /**
-     * Set the number of items in time-line
-     * 
-     * @param gap the gap in pixels
-     */
-    public int getMaxTimelineItems() {
-        return maxTimelineItems;
-    }
-
-    /**
-     * Returns the gap in pixels between the time-line items
-     * 
-     * @return the gap in pixels
-     */
-    public int getGap() {
-    	return gap;
-    }
-
-    /**
-     * Returns the gap in pixels between the time-line item and the navigation increment
-     * 
-     * @return the gap in pixels
-     */
-    public int getNavigationToItemGap() {
-        return naviToItemGap;
-    }
-
-    /**
-     * Returns the gap between navigation increment and navigation ends
-     * 
-     * @return the gap in pixels
-     */
-    public int getNavigationGap() {
-        return naviGap;
-    }
-
-    /**
-     * Returns the gap between navigation ends and component border
-     * 
-     * @return the gap in pixels
-     */
-    public int getNavigationToBorderGap() {
-        return naviToBorderGap;
-    }
-
-    /**
-     * Returns the component event listener
-     * 
-     * @return the component event listener
-     */
-    public IndicatorEventListener getIndicatorEventListener() {
-        return (IndicatorEventListener) this;
-    }
-
-    /**
-     * Returns the quantum of the component
-     * 
-     * @return the quantum
-     */
-    public int getQuantum() {
-        return quantum;
-    }
-
-    /**
-     * Returns the total of the component
-     * 
-     * @return the total
-     */
-    public int getTotal() {
-        return total;
-    }
-    
-    /**
-     * Returns the type of component
-     * 
-     * @return the type
-     */
-    public int getType() {
-        return type;
-    }
-    
-    /**
-     * Returns the navigation increment state of the component
-     * 
-     * @return the navigation increment state (TRUE / FALSE)
-     */
-    public boolean isNavigationIncrementShown() {
-        return showIncrement;
-    }
-
-    /**
-     * Returns the navigation ends state of the component
-     * 
-     * @return the navigation ends state (TRUE / FALSE)
-     */
-    public boolean isNavigationEndsShown() {
-        return showEnds;
-    }
-
-    /**
-     * @inheritDoc
-     */
-    public void paint(Graphics g) {
-        ((IndicatorLookAndFeel) UIManager.getInstance().getLookAndFeel()).drawIndicator(g, this);
-    }
-    
-    /**
-     * Returns the focused images of the component. 
-     * The order of the images is {dimmed, undimmed, previous, next, first, last}
-     * 
-     * @return the images array
-     */
-    public Image[] getFocusedImages() {
-        return focusedImages;
-    }
-
-    /**
-     * Returns the non focused images of the component. 
-     * The order of the images is {dimmed, undimmed, previous, next, first, last}
-     * 
-     * @return the images array
-     */
-    public Image[] getNonFocusedImages() {
-        return nonFocusedImages;
-    }
-
-    /**
-     * @inheritDoc
-     */
-    public String paramString() {
-        return super.paramString() + ", type = " + getType() + ", orientation = " + getOrientation() + ", behavior = " + getBehaviour() + ", quantum = " + getQuantum() + ", current = " + getCurrent() + ", total = " + getTotal() + ", gap = " + getGap() + ", item2naviGap = " + getNavigationToItemGap() + ", navi2naviGap = " + getNavigationGap() + ", naviToBorderGap = " + getNavigationToBorderGap();
-    }
-
-    /**
-     * @inheritDoc
-     */
-    protected Dimension calcPreferredSize(){
-        return ((IndicatorLookAndFeel) UIManager.getInstance().getLookAndFeel()).getIndicatorPreferredSize(this);
-    }
-    
-    private void checkNext() {
-        if (total /*- 1*/ > current + quantum) {
-            current = current + quantum;
-        }
-    }
-    
-    private void checkPrevious() {
-        if (-1 < current - quantum) {
-            current = current - quantum;
-        }
-    }
-    
-    private void checkFirst() {
-        current = 0;
-    }
-    
-    private void checkLast() {
-        current = ((total - 1) / quantum) * quantum;
-    }
-    
-    /**
-     * @nheritDoc
-     */
-    public void next() {
-        if(isRTL()) {
-            checkPrevious();
-        } else {
-            checkNext();
-        }
-        repaint(this);
-    }
-    
-    /**
-     * @nheritDoc
-     */
-    public void previous() {
-        if(isRTL()) {
-            checkNext();
-        } else {
-            checkPrevious();
-        }
-        repaint(this);
-    }
-    
-    /**
-     * @nheritDoc
-     */
-    public void first() {
-        if(isRTL()) {
-            checkLast();
-        } else {
-            checkFirst();
-        }
-        repaint(this);
-    }
-    
-    /**
-     * @nheritDoc
-     */
-    public void last() {
-        if(isRTL()) {
-            checkFirst();
-        } else {
-            checkLast();
-        }
-        repaint(this);
-    }
-    
-    private void localize() {
-        //this.text =  UIManager.getInstance().localize(text, text);
-    }
-    
-
-    /**
-     * Load 'Indicator' images
-     * <br><br>
-     * <b>NOTE: </b>The resource location should have 6 (12 if focused images are included) files.
-     * <br><br>
-     * The files naming conventions is as follows
-     * <br>
-     * <b><i>NOTE: </i></b>In the filename '@' is not required, it should be replaced with your 'append' text
-     * <table border="1">
-     * <tr>
-     *   <td><b>Image Type</b></td>
-     *   <td><b>Image Non-Focused Filename</b></td>
-     *   <td><b>Image Focused Filename</b></td>
-     * </tr>
-     * <tr>
-     *   <td>Dimmed image</td>
-     *   <td>'indicatorDimmed@Image.png'</td>
-     *   <td>'indicatorDimmedFocus@Image.png'</td>
-     * </tr>
-     * <tr>
-     *   <td>Undimmed image</td>
-     *   <td>'indicatorUndimmed@Image.png'</td>
-     *   <td>'indicatorUndimmedFocus@Image.png'</td>
-     * </tr>
-     * <tr>
-     *   <td>Navigation First image</td>
-     *   <td>'indicatorFirst@Image.png'</td>
-     *   <td>'indicatorFirstFocus@Image.png'</td>
-     * </tr>
-     * <tr>
-     *   <td>Navigation Last image</td>
-     *   <td>'indicatorLast@Image.png'</td>
-     *   <td>'indicatorLastFocus@Image.png'</td>
-     * </tr>
-     * <tr>
-     *   <td>Navigation Previous image</td>
-     *   <td>'indicatorPrevious@Image.png'</td>
-     *   <td>'indicatorPreviousFocus@Image.png'</td>
-     * </tr>
-     * <tr>
-     *   <td>Navigation Next image</td>
-     *   <td>'indicatorNext@Image.png'</td>
-     *   <td>'indicatorNextFocus@Image.png'</td>
-     * </tr>
-     * </table>
-     * 
-     */
-    public void loadImages(String resPath, String append) {
-        if(null == resPath) {
-            if (type == TYPE_IMAGES) {
-                //loadImagesFromThemeConstant();
-                
-                //UIManager m = UIManager.getInstance();
-                //IndicatorLookAndFeel laf = (IndicatorLookAndFeel) m.getLookAndFeel();
-                //
-                //laf.updateIndicatorConstants(m, false, "");
-                //laf.updateIndicatorConstants(m, true, "Focus");
-                //
-                //laf = null;
-                //m = null;
-            }
-            
-            return;
-        }
-        if(null == append) {
-            append = "";
-        }
-        String path = null;
-        /* Load Non-Focused Images */
-        try {
-            path = resPath + "/indicatorDimmed" + append + "Image.png";
-            Image dimmed = Image.createImage(path);
-            if(dimmed != null) {
-                path = resPath + "/indicatorUndimmed" + append + "Image.png";
-                Image undimmed = Image.createImage(path);
-                if(undimmed != null) {
-                    //FIXME Scale the undimmed/dimmed image to dimmed/undimmed image dimension
-                    //as non-proportional images are currently not supported
-                    if(dimmed.getWidth() <= undimmed.getWidth()) {
-                        undimmed = undimmed.scaledSmallerRatio(dimmed.getWidth(), dimmed.getHeight());
-                    } else {
-                        dimmed = dimmed.scaledSmallerRatio(undimmed.getWidth(), undimmed.getHeight());
-                    }
-
-                    //FIXME Scale the navigation images to dimmed height to align them properly in the widget
-                    //as non-proportional images are currently not supported
-                    Image next = null;
-                    try {
-                        path = resPath + "/indicatorNext" + append + "Image.png";
-                        next = Image.createImage(path);
-                        if (next != null) {
-                            next.scaledHeight(dimmed.getHeight());
-                        }
-                    } catch (IOException iOException) {
-                        System.out.println("("+path+") image not found");
-                    }
-                    Image previous = null;
-                    try {
-                        path = resPath + "/indicatorPrevious" + append + "Image.png";
-                        previous = Image.createImage(path);
-                        if (previous != null && next != null) {
-                            previous.scaledHeight(next.getHeight());
-                        }
-                    } catch (IOException iOException) {
-                        System.out.println("("+path+") image not found");
-                    }
-                    Image first = null;
-                    try {
-                        path = resPath + "/indicatorFirst" + append + "Image.png";
-                        first = Image.createImage(path);
-                        if (first != null) {
-                            first.scaledHeight(dimmed.getHeight());
-                        }
-                    } catch (IOException iOException) {
-                        System.out.println("("+path+") image not found");
-                    }
-                    Image last = null;
-                    try {
-                        path = resPath + "/indicatorLast" + append + "Image.png";
-                        last = Image.createImage(path);
-                        if (last != null && next != null) {
-                            last.scaledHeight(next.getHeight());
-                        }
-                    } catch (IOException iOException) {
-                        System.out.println("("+path+") image not found");
-                    }
-                    nonFocusedImages = new Image[]{dimmed, undimmed, previous, next, first, last};
-                }
-            }
-        } catch (IOException e) {
-            System.out.println("("+path+") image not found");
-        }
-        /* Load Focused Images */
-        try {
-            path = resPath + "/indicatorDimmedFocus" + append + "Image.png";
-            Image dimmed = Image.createImage(path);
-            if(dimmed != null) {
-                path = resPath + "/indicatorUndimmedFocus" + append + "Image.png";
-                Image undimmed = Image.createImage(path);
-                if(undimmed != null) {
-                    //FIXME Scale the undimmed/dimmed image to dimmed/undimmed image dimension
-                    //as non-proportional images are currently not supported
-                	if(dimmed.getWidth() <= undimmed.getWidth()) {
-                            undimmed = undimmed.scaledSmallerRatio(dimmed.getWidth(), dimmed.getHeight());
-                	} else {
-                            dimmed = dimmed.scaledSmallerRatio(undimmed.getWidth(), undimmed.getHeight());
-                	}
-
-                    //FIXME Scale the navigation images to dimmed height to align them properly in the widget
-                    //as non-proportional images are currently not supported
-                    Image next = null;
-                    try {
-                        path = resPath + "/indicatorNextFocus" + append + "Image.png";
-                        next = Image.createImage(path);
-                        if (next != null) {
-                            next.scaledHeight(dimmed.getHeight());
-                        }
-                    } catch (IOException iOException) {
-                        System.out.println("("+path+") image not found");
-                    }
-                    Image previous = null;
-                    try {
-                        path = resPath + "/indicatorPreviousFocus" + append + "Image.png";
-                        previous = Image.createImage(path);
-                        if (previous != null && next != null) {
-                            previous.scaledHeight(next.getHeight());
-                        }
-                    } catch (IOException iOException) {
-                        System.out.println("("+path+") image not found");
-                    }
-                    Image first = null;
-                    try {
-                        path = resPath + "/indicatorFirstFocus" + append + "Image.png";
-                        first = Image.createImage(path);
-                        if (first != null) {
-                            first.scaledHeight(dimmed.getHeight());
-                        }
-                    } catch (IOException iOException) {
-                        System.out.println("("+path+") image not found");
-                    }
-                    Image last = null;
-                    try {
-                        path = resPath + "/indicatorLastFocus" + append + "Image.png";
-                        last = Image.createImage(path);
-                        if (last != null && next != null) {
-                            last.scaledHeight(next.getHeight());
-                        }
-                    } catch (IOException iOException) {
-                        System.out.println("("+path+") image not found");
-                    }
-                    focusedImages = new Image[]{dimmed, undimmed, previous, next, first, last};
-                }
-            }
-        } catch (IOException e) {
-            System.out.println("("+path+") image not found");
-        }
-    }
-    
-//    private void loadImagesFromThemeConstant() {
-//        UIManager m = UIManager.getInstance();
-//        /* Load Non-Focused Images */
-//        Image dimmed = m.getThemeImageConstant("Indicator.indicatorDimmedImage");
-//        if(dimmed != null) {
-//            Image undimmed = m.getThemeImageConstant("Indicator.indicatorUndimmedImage");
-//            if(undimmed != null) {
-//                //FIXME Scale the undimmed/dimmed image to dimmed/undimmed image dimension
-//                //as non-proportional images are currently not supported
-//                if(dimmed.getWidth() <= undimmed.getWidth()) {
-//                    undimmed = undimmed.scaledSmallerRatio(dimmed.getWidth(), dimmed.getHeight());
-//                } else {
-//                    dimmed = dimmed.scaledSmallerRatio(undimmed.getWidth(), undimmed.getHeight());
-//                }
-//    
-//                //FIXME Scale the navigation images to dimmed height to align them properly in the widget
-//                //as non-proportional images are currently not supported
-//                Image next = m.getThemeImageConstant("Indicator.indicatorNextImage");
-//                if (next != null) {
-//                    next.scaledHeight(dimmed.getHeight());
-//                }
-//                Image previous = m.getThemeImageConstant("Indicator.indicatorPreviousImage");
-//                if (previous != null && next != null) {
-//                    previous.scaledHeight(next.getHeight());
-//                }
-//                Image first = m.getThemeImageConstant("Indicator.indicatorFirstImage");
-//                if (first != null) {
-//                    first.scaledHeight(dimmed.getHeight());
-//                }
-//                Image last = m.getThemeImageConstant("Indicator.indicatorLastImage");
-//                if (last != null && next != null) {
-//                    last.scaledHeight(next.getHeight());
-//                }
-//                nonFocusedImages = new Image[]{dimmed, undimmed, previous, next, first, last};
-//            }
-//        }
-//        /* Load Focused Images */
-//        dimmed = m.getThemeImageConstant("Indicator.indicatorDimmedFocusImage");
-//        if(dimmed != null) {
-//            Image undimmed = m.getThemeImageConstant("Indicator.indicatorUndimmedFocusImage");
-//            if(undimmed != null) {
-//                //FIXME Scale the undimmed/dimmed image to dimmed/undimmed image dimension
-//                //as non-proportional images are currently not supported
-//                    if(dimmed.getWidth() <= undimmed.getWidth()) {
-//                            undimmed = undimmed.scaledSmallerRatio(dimmed.getWidth(), dimmed.getHeight());
-//                    } else {
-//                            dimmed = dimmed.scaledSmallerRatio(undimmed.getWidth(), undimmed.getHeight());
-//                    }
-//    
-//                //FIXME Scale the navigation images to dimmed height to align them properly in the widget
-//                //as non-proportional images are currently not supported
-//                Image next = m.getThemeImageConstant("Indicator.indicatorNextFocusImage");
-//                if (next != null) {
-//                    next.scaledHeight(dimmed.getHeight());
-//                }
-//                Image previous = m.getThemeImageConstant("Indicator.indicatorPreviousFocusImage");
-//                if (previous != null && next != null) {
-//                    previous.scaledHeight(next.getHeight());
-//                }
-//                Image first = m.getThemeImageConstant("Indicator.indicatorFirstFocusImage");
-//                if (first != null) {
-//                    first.scaledHeight(dimmed.getHeight());
-//                }
-//                Image last = m.getThemeImageConstant("Indicator.indicatorLastFocusImage");
-//                if (last != null && next != null) {
-//                    last.scaledHeight(next.getHeight());
-//                }
-//                focusedImages = new Image[]{dimmed, undimmed, previous, next, first, last};
-//            }
-//        }
-//    }
-}
+package com.sun.lwuit;
+
+import com.sun.lwuit.animations.Transition;
+import com.sun.lwuit.geom.Dimension;
+import com.sun.lwuit.geom.Rectangle;
+import com.sun.lwuit.plaf.IndicatorDisplayList;
+import com.sun.lwuit.plaf.IndicatorImageCache;
+import com.sun.lwuit.plaf.IndicatorLookAndFeel;
+import com.sun.lwuit.plaf.IndicatorResourceResolver;
+import com.sun.lwuit.plaf.Style;
+import com.sun.lwuit.plaf.UIManager;
+import java.io.IOException;
+import java.util.Vector;
+
+/**
+ * Widget to show the navigation indicator.
+ * <pre>
+ * 
+ *                Dimmed-----|   |---- Undimmed
+ *                           |   |
+ *              |-----------------------------------------|
+ *              |   <<   <   *   @   *   *   *   >   >>   |
+ *              |-----------------------------------------|
+ *                  |    |  |                 |  |   |
+ *                  |    |  |-----------------|  |   |
+ *          |--------    |        Timeline       |   ------------|
+ *          |            |                       |               |
+ *          |       Navigation                Navigation         |
+ *          |        Previous                   Next             |
+ *          |                                                    |
+ *          |                                                    |
+ *      Navigation                                           Navigation
+ *        First                                                 Last
+ * </pre>
+ * <br>
+  * <b>NOTE:</b>
+ * <ul>
+ *  <li>Navigation First and Last constitute to be Navigation Ends
+ *  <li>Navigation Previous and Next constitute to be Navigation Increment
+ * </ul>
+ * <br>
+ * <b>Use Case:</b>
+ * <ul>
+ *  <li>To navigation indicators for a paginated view, like in RSS feed readers on Android's
+ * </ul>
+ * <br>
+ * 
+ * @since LWUIT 1.4
+ * 
+ * @version 1.0
+ * 
+ * @author Vimal ( vimal.lwuit@ymail.com )
+ */
+public class Indicator extends Component implements IndicatorEventListener, IndicatorAnimation {
+
+    private static final int DEFAULT_GAP = 2;
+    
+    /** Show no navigation */ 
+    public static final int BEHAVIOUR_SHOW_NAVGATION_NONE = 1;
+	
+    /** Show navigation always when more than the group count */
+    public static final int BEHAVIOUR_SHOW_NAVGATION_ALWAYS = 2;
+    
+    /** Show navigation only when 1st or last dot in the indicator is selected */
+    public static final int BEHAVIOUR_SHOW_NAVGATION_WHEN_BESIDE = 3;
+    
+    public static final int TYPE_IMAGES = 1;
+    
+    public static final int TYPE_RAW_DOTS = 2;
+    
+    public static final int TYPE_RAW_BOX = 3;
+    
+    public static final int TYPE_RAW_OVALS = 4;
+    
+    public static final int TYPE_RAW_NUMBERS = 5;
+    
+    public static final int ORIENTATION_HORIZONTAL = 1;
+    
+    public static final int ORIENTATION_VERTICAL = 2;
+    
+    /** Lay out and draw the component on every paint */
+    public static final int RENDERER_DIRECT = 1;
+    
+    /** Record the drawing commands on layout/state change and replay them on paint */
+    public static final int RENDERER_DISPLAY_LIST = 2;
+    
+    /** Replay the recorded drawing commands with the images kept as ARGB arrays drawn by drawRGB */
+    public static final int RENDERER_RGB = 3;
+    
+    /** Keep the images as decoded, 32-bit ARGB */
+    public static final int IMAGE_STORAGE_ARGB = 1;
+    
+    /** Keep the images as indexed palette or RGB565 with 1-bit alpha, see {@link IndicatorCompactImage} */
+    public static final int IMAGE_STORAGE_COMPACT = 2;
+    
+    /** Default duration of the undimmed item slide in milliseconds */
+    public static final int DEFAULT_ANIMATION_DURATION = 200;
+    
+    /** Hit area of nothing, see {@link #getHitArea(int, int)} */
+    public static final int HIT_NONE = -1;
+    
+    /** Hit area of the navigation first */
+    public static final int HIT_FIRST = -2;
+    
+    /** Hit area of the navigation previous */
+    public static final int HIT_PREVIOUS = -3;
+    
+    /** Hit area of the navigation next */
+    public static final int HIT_NEXT = -4;
+    
+    /** Hit area of the navigation last */
+    public static final int HIT_LAST = -5;
+    
+    /** Number of pointer samples kept to estimate the fling velocity */
+    private static final int POINTER_SAMPLES = 8;
+    
+    /** Only the samples of the last milliseconds are used for the fling velocity */
+    private static final int FLING_SAMPLE_TIME = 100;
+    
+    /** The most groups a fling jumps */
+    private static final int MAX_FLING_GROUPS = 10;
+    
+    /** Key action moving a position back */
+    public static final int KEY_ACTION_PREVIOUS = 1;
+    
+    /** Key action moving a position forward */
+    public static final int KEY_ACTION_NEXT = 2;
+    
+    /** Key action moving to the first position */
+    public static final int KEY_ACTION_FIRST = 3;
+    
+    /** Key action moving to the last position */
+    public static final int KEY_ACTION_LAST = 4;
+    
+    /** Internal key action of a digit typed into the page number */
+    private static final int KEY_ACTION_DIGIT = 5;
+    
+    /** Time in milliseconds after which a typed digit starts a new page number */
+    private static final int NUMBER_ENTRY_TIMEOUT = 1000;
+    
+    /** State changes queued by the thread safe mode, with their argument, coded as the recorded calls */
+    private static final int STATE_NEXT = IndicatorRecorder.NEXT;
+    
+    private static final int STATE_PREVIOUS = IndicatorRecorder.PREVIOUS;
+    
+    private static final int STATE_FIRST = IndicatorRecorder.FIRST;
+    
+    private static final int STATE_LAST = IndicatorRecorder.LAST;
+    
+    private static final int STATE_GO_TO = IndicatorRecorder.GO_TO;
+    
+    private static final int STATE_JUMP_GROUPS = IndicatorRecorder.JUMP_GROUPS;
+    
+    private static final int STATE_SET_CURRENT = IndicatorRecorder.SET_CURRENT;
+    
+    private static final int STATE_SET_TOTAL = IndicatorRecorder.SET_TOTAL;
+    
+    private static final int STATE_SET_QUANTUM = IndicatorRecorder.SET_QUANTUM;
+    
+    /** Default time in milliseconds a key press is ignored after the previous one, against contact bounce */
+    public static final int DEFAULT_KEY_DEBOUNCE = 40;
+    
+    /** Default maximum number of repaints per second */
+    public static final int DEFAULT_MAX_REPAINT_RATE = 25;
+    
+    /** Smoothstep easing of the slide in 1/256, sampled at every 1/16 of the duration */
+    private static final int[] EASING = {
+        0, 3, 11, 24, 40, 59, 81, 104, 128, 152, 175, 197, 216, 232, 245, 253, 256
+    };
+    
+    private Image[] nonFocusedImages = null;
+    
+    private Image[] focusedImages = null;
+    
+    /** Alpha masks {item, arrow, double arrow} the images are tinted from */
+    private Image[] maskImages = null;
+    
+    private int behaviour;
+    
+    private int type;
+    
+    private int orientation;
+    
+    private int renderer = RENDERER_DISPLAY_LIST;
+    
+    private int imageStorage = IMAGE_STORAGE_ARGB;
+    
+    /** Lowers the quality when painting exceeds the frame budget, null if disabled */
+    private IndicatorFrameBudget frameBudget = null;
+    
+    /** Rotate the navigation images of a vertical indicator to point up and down */
+    private boolean navigationRotated = true;
+    
+    /** Recorded drawing commands of the component */
+    private final IndicatorDisplayList displayList = new IndicatorDisplayList();
+    
+    /** Frozen image of the component painted while a form transition is running */
+    private Image transitionSnapshot = null;
+    
+    private int animationDuration = DEFAULT_ANIMATION_DURATION;
+    
+    /** Start time of the running slide, -1 if the component isn't animating */
+    private long animationStart = -1;
+    
+    private int maxRepaintRate = DEFAULT_MAX_REPAINT_RATE;
+    
+    /** Time of the last navigation repaint */
+    private long lastRepaint = 0;
+    
+    /** A navigation repaint is folded into the next clock tick */
+    private boolean repaintPending = false;
+    
+    /** Navigation keys are handled by the component itself */
+    private boolean keyNavigation = false;
+    
+    /** Explicit key bindings {keyCode, action}, used before the game actions */
+    private int[] keyBindings = null;
+    
+    private int keyBindingCount = 0;
+    
+    private int keyDebounce = DEFAULT_KEY_DEBOUNCE;
+    
+    /** Hold times starting jumps of a group, of 10 groups and to the ends */
+    private int groupJumpDelay = 800;
+    
+    private int tenGroupsJumpDelay = 2000;
+    
+    private int endsJumpDelay = 3500;
+    
+    /** Action of the held key, 0 if none */
+    private int pressedAction = 0;
+    
+    private long pressedTime = 0;
+    
+    private int lastPressedKey = 0;
+    
+    private long lastPressedTime = 0;
+    
+    /** Measures the navigation latency, null if disabled */
+    private IndicatorLatencyTrace latencyTrace = null;
+    
+    private IndicatorRecorder recorder = null;
+    
+    /** Driven by an {@link IndicatorReplayer} rather than by the form and the animation clock */
+    private boolean replayed = false;
+    
+    /** Hit area under the pointer when pressed */
+    private int pressedHit = HIT_NONE;
+    
+    /** Recent pointer coordinates along the indicator and their times, a ring buffer */
+    private final int[] pointerCoords = new int[POINTER_SAMPLES];
+    
+    private final long[] pointerTimes = new long[POINTER_SAMPLES];
+    
+    private int pointerSampleCount = 0;
+    
+    private int pointerSampleNext = 0;
+    
+    /** The pointer moved beyond the drag slop, it scrubs instead of tapping */
+    private boolean scrubbing = false;
+    
+    private int pressedCoord;
+    
+    private int pressedCurrent;
+    
+    /** Scrubbed position not applied yet, waiting for the next display frame */
+    private int scrubTarget = -1;
+    
+    private long lastScrubTime = 0;
+    
+    /** Change listeners, replaced on every change so dispatch needs no lock */
+    private volatile IndicatorChangeListener[] changeListeners = null;
+    
+    private final Object changeListenersLock = new Object();
+    
+    /** State changes from any thread are applied on the EDT, read by the posting threads */
+    private volatile boolean threadSafe = false;
+    
+    /** Guards the queued state changes and the published (current, total, quantum) state */
+    private final Object stateLock = new Object();
+    
+    /** Queued state changes {change, argument} */
+    private int[] stateChanges = null;
+    
+    private int stateChangeCount = 0;
+    
+    /** Queue of the batch applied last, reused by the next batch */
+    private int[] spareStateChanges = null;
+    
+    /** State after the last applied change, read by {@link #getState(int[])} in the thread safe mode */
+    private int publishedCurrent;
+    
+    private int publishedTotal;
+    
+    private int publishedQuantum;
+    
+    /** Applies the queued state changes, posted once per batch */
+    private Runnable stateSync = null;
+    
+    private boolean stateSyncScheduled = false;
+    
+    /** The EDT is applying the queued state changes */
+    private boolean applyingState = false;
+    
+    /** Digit keys type the page number to go to */
+    private boolean numberEntry = false;
+    
+    private int enteredNumber = 0;
+    
+    private long lastDigitTime = 0;
+    
+    private int valign = CENTER;
+    
+    /** Number of items in the time-line */
+    private int maxTimelineItems = 5;
+
+    private int gap = DEFAULT_GAP;
+
+    private int naviToItemGap = DEFAULT_GAP;
+    
+    private int naviGap = DEFAULT_GAP;
+    
+    private int naviToBorderGap = DEFAULT_GAP;
+    
+    /** Indicator quantum */
+    private int quantum = 1;
+    
+    /** Indicator iteration */
+    private int current = -1;
+    
+    /** Total indicator iterations */
+    private int total = 1;
+    
+    /** Show 'previous' and 'next' navigation in the componenet */
+    private boolean showIncrement = true;
+    
+    /** Show 'first' and 'last' navigation in the componenet */
+    private boolean showEnds = true;
+    
+    /** 
+     * Constructs a new indicator with default type.
+     */
+    public Indicator() {
+        this(TYPE_RAW_DOTS, BEHAVIOUR_SHOW_NAVGATION_ALWAYS, null, null);
+    }
+    
+    /** 
+     * Constructs a new indicator with given type.
+     * 
+     * @param type the type of the indicator
+     */
+    public Indicator(int type) {
+        this(type, BEHAVIOUR_SHOW_NAVGATION_ALWAYS, null, null);
+    }
+    
+    /** 
+     * Constructs a new indicator with given type.
+     * 
+     * @param type the type of the indicator
+     */
+    public Indicator(int type, int behaviour, String imagesFolderPath, String append) {
+        //setUIID("Indicator");
+        setFocusable(false);
+        setType(type);
+        setBehaviour(behaviour);
+        setVerticalAlignment(CENTER);
+        setOrientation(ORIENTATION_HORIZONTAL);
+        if(IndicatorCalibration.getRenderer() > 0) {
+            renderer = IndicatorCalibration.getRenderer();
+        }
+        localize();
+        loadImages(imagesFolderPath,append);
+        
+    }
+    
+    /**
+     * Set the behavior of the component.
+     * 
+     * @param behaviour the behavior of the component
+     * 
+     * @see #BEHAVIOUR_SHOW_NAVGATION_NONE
+     * @see #BEHAVIOUR_SHOW_NAVGATION_ALWAYS
+     * @see #BEHAVIOUR_SHOW_NAVGATION_WHEN_BESIDE
+     */
+    public void setBehaviour(int behaviour) {
+        if(behaviour < BEHAVIOUR_SHOW_NAVGATION_NONE 
+                || behaviour > BEHAVIOUR_SHOW_NAVGATION_WHEN_BESIDE) {
+            behaviour = BEHAVIOUR_SHOW_NAVGATION_NONE;
+        }
+        boolean change = this.behaviour != behaviour;
+        this.behaviour = behaviour;
+        if(change) {
+            layoutChanged();
+        }
+    }
+    
+    /**
+     * Set the orientation of the component.
+     * 
+     * @param orientation the orientation of the component
+     * 
+     * @see #ORIENTATION_HORIZONTAL
+     * @see #ORIENTATION_VERTICAL
+     */
+    public void setOrientation(int orientation) {
+        record(IndicatorRecorder.SET_ORIENTATION, orientation);
+        boolean change = this.orientation != orientation;
+        this.orientation = orientation;
+        if(change) {
+            layoutChanged();
+        }
+    }
+    
+    /**
+     * Set the renderer of the component. The default renderer is the one picked
+     * by {@link IndicatorCalibration} if the device was calibrated, else
+     * {@link #RENDERER_DISPLAY_LIST}.
+     * 
+     * @param renderer the renderer of the component
+     * 
+     * @see #RENDERER_DIRECT
+     * @see #RENDERER_DISPLAY_LIST
+     * @see #RENDERER_RGB
+     */
+    public void setRenderer(int renderer) {
+        record(IndicatorRecorder.SET_RENDERER, renderer);
+        applyRenderer(renderer);
+    }
+    
+    /**
+     * Sets the renderer without recording the call, for the changes made by the
+     * component itself, e.g. by the frame budget controller
+     */
+    void applyRenderer(int renderer) {
+        if(renderer < RENDERER_DIRECT || renderer > RENDERER_RGB) {
+            renderer = RENDERER_DISPLAY_LIST;
+        }
+        this.renderer = renderer;
+        renderingChanged();
+    }
+    
+    /**
+     * Sets the controller keeping the paint time of the component within a frame
+     * budget by lowering its quality under load.
+     * 
+     * @param frameBudget the frame budget controller or null to always paint at full quality
+     */
+    public void setFrameBudget(IndicatorFrameBudget frameBudget) {
+        if(this.frameBudget != null) {
+            this.frameBudget.restore(this);
+        }
+        this.frameBudget = frameBudget;
+        renderingChanged();
+    }
+    
+    /**
+     * Returns the controller keeping the paint time of the component within a frame budget
+     * 
+     * @return the frame budget controller or null if disabled
+     */
+    public IndicatorFrameBudget getFrameBudget() {
+        return frameBudget;
+    }
+    
+    /**
+     * Returns the current quality of the component
+     * 
+     * @return the quality level set by the frame budget controller
+     * 
+     * @see IndicatorFrameBudget#QUALITY_FULL
+     */
+    public int getQuality() {
+        return frameBudget == null ? IndicatorFrameBudget.QUALITY_FULL : frameBudget.getQuality();
+    }
+    
+    /**
+     * Sets the duration of the undimmed item slide to its new position. 
+     * The progress follows the clock, so frames are dropped rather than 
+     * the slide stretched when the device is busy.
+     * 
+     * @param animationDuration the duration in milliseconds, 0 moves the item at once
+     */
+    public void setAnimationDuration(int animationDuration) {
+        record(IndicatorRecorder.SET_ANIMATION_DURATION, animationDuration);
+        this.animationDuration = Math.max(0, animationDuration);
+        if(this.animationDuration == 0) {
+            stopAnimation();
+        }
+    }
+    
+    /**
+     * Returns the duration of the undimmed item slide
+     * 
+     * @return the duration in milliseconds, 0 if disabled
+     */
+    public int getAnimationDuration() {
+        return animationDuration;
+    }
+    
+    /**
+     * Sets the maximum rate of the repaints caused by navigation. The state 
+     * changes at once on every call, e.g. on each key repeat, while the 
+     * repaints are folded into at most one per display frame within this rate.
+     * 
+     * @param maxRepaintRate the maximum repaints per second, 0 for one per display frame
+     */
+    public void setMaxRepaintRate(int maxRepaintRate) {
+        record(IndicatorRecorder.SET_MAX_REPAINT_RATE, maxRepaintRate);
+        this.maxRepaintRate = Math.max(0, maxRepaintRate);
+    }
+    
+    /**
+     * Returns the maximum rate of the repaints caused by navigation
+     * 
+     * @return the maximum repaints per second, 0 for one per display frame
+     */
+    public int getMaxRepaintRate() {
+        return maxRepaintRate;
+    }
+    
+    /**
+     * Lets the component handle the navigation keys itself when focused, the 
+     * component becomes focusable. Without explicit bindings the left and right 
+     * game actions (up and down when vertical) move a position, holding the key 
+     * accelerates to jumps of a timeline group, of 10 groups and to the ends.
+     * 
+     * @param keyNavigation true to handle the navigation keys
+     * 
+     * @see #addKeyBinding(int, int)
+     * @see #setLongPressAcceleration(int, int, int)
+     */
+    public void setKeyNavigation(boolean keyNavigation) {
+        this.keyNavigation = keyNavigation;
+        setFocusable(keyNavigation);
+        pressedAction = 0;
+    }
+    
+    /**
+     * Returns true if the component handles the navigation keys itself
+     * 
+     * @return true if the key navigation is enabled
+     */
+    public boolean isKeyNavigation() {
+        return keyNavigation;
+    }
+    
+    /**
+     * Binds a key code to a navigation action, the explicit bindings take 
+     * precedence over the game actions
+     * 
+     * @param keyCode the key code
+     * @param action the action of the key
+     * 
+     * @see #KEY_ACTION_PREVIOUS
+     * @see #KEY_ACTION_NEXT
+     * @see #KEY_ACTION_FIRST
+     * @see #KEY_ACTION_LAST
+     */
+    public void addKeyBinding(int keyCode, int action) {
+        if(action < KEY_ACTION_PREVIOUS || action > KEY_ACTION_LAST) {
+            throw new IllegalArgumentException("Unknown key action: " + action);
+        }
+        if(keyBindings == null || keyBindingCount * 2 == keyBindings.length) {
+            int[] grown = new int[keyBindings == null ? 8 : keyBindings.length * 2];
+            if(keyBindings != null) {
+                System.arraycopy(keyBindings, 0, grown, 0, keyBindingCount * 2);
+            }
+            keyBindings = grown;
+        }
+        keyBindings[keyBindingCount * 2] = keyCode;
+        keyBindings[keyBindingCount * 2 + 1] = action;
+        keyBindingCount++;
+    }
+    
+    /**
+     * Lets the digit keys type the number of the page to go to when the key 
+     * navigation is enabled. The component moves on each digit, a digit typed 
+     * after a pause or beyond the last page starts a new number. Explicitly 
+     * bound digit keys keep their action.
+     * 
+     * @param numberEntry true to type page numbers
+     */
+    public void setNumberEntry(boolean numberEntry) {
+        this.numberEntry = numberEntry;
+        enteredNumber = 0;
+    }
+    
+    /**
+     * Returns true if the digit keys type page numbers
+     * 
+     * @return true if the number entry is enabled
+     */
+    public boolean isNumberEntry() {
+        return numberEntry;
+    }
+    
+    /**
+     * Removes the explicit key bindings, the game actions remain
+     */
+    public void clearKeyBindings() {
+        keyBindingCount = 0;
+    }
+    
+    /**
+     * Sets the time a key press is ignored after the previous press of the same key
+     * 
+     * @param keyDebounce the time in milliseconds, 0 to accept every press
+     */
+    public void setKeyDebounce(int keyDebounce) {
+        this.keyDebounce = Math.max(0, keyDebounce);
+    }
+    
+    /**
+     * Returns the time a key press is ignored after the previous press of the same key
+     * 
+     * @return the time in milliseconds
+     */
+    public int getKeyDebounce() {
+        return keyDebounce;
+    }
+    
+    /**
+     * Sets how long a navigation key is held before the repeats accelerate
+     * 
+     * @param groupJumpDelay hold time in milliseconds before each repeat jumps a timeline group
+     * @param tenGroupsJumpDelay hold time in milliseconds before each repeat jumps 10 groups
+     * @param endsJumpDelay hold time in milliseconds before a repeat jumps to the first or last position
+     */
+    public void setLongPressAcceleration(int groupJumpDelay, int tenGroupsJumpDelay, int endsJumpDelay) {
+        this.groupJumpDelay = groupJumpDelay;
+        this.tenGroupsJumpDelay = Math.max(groupJumpDelay, tenGroupsJumpDelay);
+        this.endsJumpDelay = Math.max(this.tenGroupsJumpDelay, endsJumpDelay);
+    }
+    
+    /**
+     * Set how the images of the component are kept in memory. The compact storage
+     * takes about a quarter of the heap for typical indicator images but expands
+     * the pixels on each paint, so it suits low memory devices only.
+     * The current images are converted.
+     * 
+     * @param imageStorage the image storage of the component
+     * 
+     * @see #IMAGE_STORAGE_ARGB
+     * @see #IMAGE_STORAGE_COMPACT
+     */
+    public void setImageStorage(int imageStorage) {
+        if(imageStorage != IMAGE_STORAGE_COMPACT) {
+            imageStorage = IMAGE_STORAGE_ARGB;
+        }
+        if(this.imageStorage == imageStorage) {
+            return;
+        }
+        this.imageStorage = imageStorage;
+        nonFocusedImages = storeImages(nonFocusedImages);
+        focusedImages = storeImages(focusedImages);
+        layoutChanged();
+    }
+    
+    /**
+     * Returns how the images of the component are kept in memory
+     * 
+     * @return the image storage of the component
+     */
+    public int getImageStorage() {
+        return imageStorage;
+    }
+    
+    /**
+     * Converts the images to the image storage of the component
+     */
+    private Image[] storeImages(Image[] images) {
+        if(null == images) {
+            return null;
+        }
+        if(imageStorage == IMAGE_STORAGE_COMPACT) {
+            return ((IndicatorLookAndFeel) UIManager.getInstance().getLookAndFeel()).getImageCache().getCompact(images);
+        }
+        Image[] stored = images;
+        for(int i = 0; i < images.length; i++) {
+            if(images[i] instanceof IndicatorCompactImage) {
+                if(stored == images) {
+                    stored = new Image[images.length];
+                    System.arraycopy(images, 0, stored, 0, images.length);
+                }
+                stored[i] = Image.createImage(images[i].getRGB(), images[i].getWidth(), images[i].getHeight());
+            }
+        }
+        IndicatorImageCache.checkAlpha(stored);
+        return stored;
+    }
+    
+    /**
+     * Sets whether the navigation images of a vertical indicator are rotated
+     * 90 degrees clockwise, so the arrows drawn for a horizontal indicator point
+     * up and down. Disable it when the images are already drawn for the vertical
+     * orientation.
+     * 
+     * @param navigationRotated true to rotate the navigation images, the default
+     */
+    public void setNavigationRotated(boolean navigationRotated) {
+        if(this.navigationRotated == navigationRotated) {
+            return;
+        }
+        this.navigationRotated = navigationRotated;
+        layoutChanged();
+    }
+    
+    /**
+     * Returns whether the navigation images of a vertical indicator are rotated
+     * 
+     * @return true if the navigation images are rotated
+     */
+    public boolean isNavigationRotated() {
+        return navigationRotated;
+    }
+    
+    /**
+     * Sets the focused images of the component. 
+     * The order of the images is {dimmed, undimmed, previous, next, first, last}
+     * 
+     * @param imgs the array of images
+     */
+    public void setFocusedImages(Image[] imgs) {
+        if(null == imgs) {
+            return;
+        }
+        maskImages = null;
+        focusedImages = new Image[imgs.length];
+        System.arraycopy(imgs, 0, focusedImages, 0, focusedImages.length);
+        IndicatorImageCache.checkAlpha(focusedImages);
+        focusedImages = storeImages(focusedImages);
+        layoutChanged();
+    }
+
+    /**
+     * Sets the alpha masks the focused and non focused images are generated from.
+     * The images are tinted with the foreground color of the selected/unselected
+     * style and are generated again when the color or the theme changes, so the
+     * indicator can be recolored without any new image.
+     * <br><br>
+     * The dimmed item is the item mask at half opacity, the undimmed item the 
+     * item mask, the arrow mask is the 'previous' navigation, the double arrow 
+     * mask the 'first' navigation. Both arrows point to the left, 'next' and 
+     * 'last' navigations are flipped from them.
+     * <br><br>
+     * <b>NOTE: </b>Setting focused or non focused images stops the tinting.
+     * 
+     * @param item the item mask
+     * @param arrow the navigation arrow mask, might be null
+     * @param doubleArrow the navigation double arrow mask, might be null
+     */
+    public void setMaskImages(Image item, Image arrow, Image doubleArrow) {
+        if(null == item) {
+            return;
+        }
+        maskImages = new Image[]{item, arrow, doubleArrow};
+        tintMaskImages();
+    }
+    
+    /**
+     * Returns the alpha masks the images are generated from.
+     * The order of the masks is {item, arrow, double arrow}
+     * 
+     * @return the masks array or null if the images are not tinted
+     */
+    public Image[] getMaskImages() {
+        return maskImages;
+    }
+    
+    private void tintMaskImages() {
+        if(null == maskImages) {
+            return;
+        }
+        IndicatorImageCache cache = ((IndicatorLookAndFeel) UIManager.getInstance().getLookAndFeel()).getImageCache();
+        nonFocusedImages = storeImages(cache.getTinted(maskImages, getUnselectedStyle().getFgColor()));
+        focusedImages = storeImages(cache.getTinted(maskImages, getSelectedStyle().getFgColor()));
+        layoutChanged();
+    }
+
+    /**
+     * Sets the non focused images of the component. 
+     * The order of the images is {dimmed, undimmed, previous, next, first, last}
+     * 
+     * @param the array of images
+     */
+    public void setNonFocusedImages(Image[] imgs) {
+        if(null == imgs) {
+            return;
+        }
+        maskImages = null;
+        nonFocusedImages = new Image[imgs.length];
+        System.arraycopy(imgs, 0, nonFocusedImages, 0, nonFocusedImages.length);
+        IndicatorImageCache.checkAlpha(nonFocusedImages);
+        nonFocusedImages = storeImages(nonFocusedImages);
+        layoutChanged();
+    }
+    
+    /**
+     * Set the number of visible indicators in the component timeline.
+     * <b>NOTE:</b> If timeline items are greater than {@link #getTotal()}
+     * than timeline will be reduced to the latter's value.
+     * 
+     * @param maxTimelineItems the number of visible indicators in timeline
+     */
+    public void setMaxTimelineItems(int maxTimelineItems) {
+        record(IndicatorRecorder.SET_MAX_TIMELINE_ITEMS, maxTimelineItems);
+        boolean change = this.maxTimelineItems != maxTimelineItems
+                && this.total != maxTimelineItems && this.maxTimelineItems != this.total;
+        this.maxTimelineItems = this.total < maxTimelineItems ? this.total : maxTimelineItems;
+        if(change) {
+            layoutChanged();
+        }
+    }
+
+    /**
+     * Set the gap in pixels between the icon/text to the navigation in the component
+     * 
+     * @param gap the gap in pixels
+     */
+    public void setGap(int gap) {
+        boolean change = this.gap != gap;
+        this.gap = gap;
+        if(change) {
+            layoutChanged();
+        }
+    }
+
+    /**
+     * Set the gap in pixels between the time-line item/text to the navigation increment
+     * 
+     * @param gap the gap in pixels
+     */
+    public void setNavigationToItemGap(int navigationToItemGap) {
+        boolean change = this.naviToItemGap != navigationToItemGap;
+        this.naviToItemGap = navigationToItemGap;
+        if(change) {
+            layoutChanged();
+        }
+    }
+
+    /**
+     * Set the gap in pixels between navigation increment and navigation ends
+     * 
+     * @param gap the gap in pixels
+     */
+    public void setNavigationGap(int navigationGap) {
+        boolean change = this.naviGap != navigationGap;
+        this.naviGap = navigationGap;
+        if(change) {
+            layoutChanged();
+        }
+    }
+
+    /**
+     * Set the gap in pixels between navigation ends and component border
+     * 
+     * @param gap the gap in pixels
+     */
+    public void setNavigationToBorderGap(int navigationToBorderGap) {
+        boolean change = this.naviToBorderGap != navigationToBorderGap;
+        this.naviToBorderGap = navigationToBorderGap;
+        if(change) {
+            layoutChanged();
+        }
+    }
+
+    /**
+     * Set the navigation increment state (TRUE/FALSE) in the component
+     * 
+     * @param show show the navigation
+     */
+    public void setNavigationIncrement(boolean show) {
+        boolean change = this.showIncrement != show;
+        this.showIncrement = show;
+
+        //Since navigation increment is not shown, is doesn't make sense
+        //to keep the gapping between navigations 'ends' and 'increment'.
+        if(!this.showIncrement) {
+            setNavigationGap(0);
+
+            //Since both navigation increment and navigation ends 
+            //are not shown, so removing the navigation to item gapping.
+            if(!this.showEnds) {
+                setNavigationToBorderGap(0);
+                setNavigationToItemGap(0);
+            }
+
+        } else {
+            //Since navigation increment is shown but navigation ends is not shown,
+            //so it doesn't make sense to keep the inbetween navigation gap.
+            if(!this.showEnds) {
+                setNavigationGap(0);
+            }
+        }
+        if(change) {
+            layoutChanged();
+        }
+    }
+
+    /**
+     * Set the navigation ends state (TRUE/FALSE) in the component
+     * 
+     * @param show show the navigation
+     */
+    public void setNavigationEnds(boolean show) {
+        boolean change = this.showEnds != show;
+        this.showEnds = show;
+
+        //Since navigation ends is not shown, is doesn't make sense
+        //to keep the gapping between navigations 'ends' and 'increment'
+        if (!this.showEnds) {
+            setNavigationGap(0);
+
+            //Since both navigation increment and navigation ends
+            //are not shown, so removing the navigation to item gapping.
+            if (!showIncrement) {
+                setNavigationToBorderGap(0);
+                setNavigationToItemGap(0);
+            }
+
+        } else {
+            //Since navigation increment is shown but navigation ends is not shown,
+            //so it doesn't make sense to keep the inbetween navigation gap.
+            if(!this.showIncrement) {
+                setNavigationGap(0);
+            }
+        }
+        if(change) {
+            layoutChanged();
+        }
+    }
+
+    /**
+     * Set the quantum for component
+     * 
+     * @param quantum the quantum to set
+     */
+    public void setQuantum(int quantum) {
+        if(postStateChange(STATE_SET_QUANTUM, quantum)) {
+            return;
+        }
+        record(STATE_SET_QUANTUM, quantum);
+        boolean change = this.quantum != quantum;
+        this.quantum = Math.max(0, quantum);
+        if(change) {
+            layoutChanged();
+        }
+    }
+
+    /**
+     * Set the total for component
+     * 
+     * @param total the total to set
+     */
+    public void setTotal(int total) {
+        if(postStateChange(STATE_SET_TOTAL, total)) {
+            return;
+        }
+        record(STATE_SET_TOTAL, total);
+        boolean change = this.total != total;
+        this.total = Math.max(0, total);
+        if (this.total < this.quantum) {
+            this.quantum = this.total;
+        }
+        if(change) {
+            layoutChanged();
+        }
+    }
+
+    /**
+     * Set the type of component: 
+     * {@link #TYPE_IMAGES}
+     * 
+     * @param type the type to set
+     * 
+     * @see #TYPE_IMAGES
+     */
+    public void setType(int type) {
+        if(type < TYPE_IMAGES || type > TYPE_RAW_NUMBERS) {
+            type = TYPE_IMAGES;
+        }
+        
+    	//FIXME Patch to set the type for IMAGES always, 
+        //will change when RAW mode is implemented
+        if(type != TYPE_IMAGES) {
+            type = TYPE_IMAGES;
+        }
+        boolean change = this.type != type;
+        this.type = type;
+        if(change) {
+            layoutChanged();
+        }
+    }
+
+    /**
+     * Set the vertical alignment of the component
+     * 
+     * @param valign the vertical align to set
+     */
+    public void setVerticalAlignment(int valign) {
+    	//FIXME Patch to set the vertical aligment to CENTER always, 
+        //will change when other vAlignments are implemented
+        if(valign != Component.CENTER) {
+            valign = Component.CENTER;
+        }
+        boolean change = this.valign != valign;
+        this.valign = valign;
+        if(change) {
+            layoutChanged();
+        }
+    }
+    
+    /**
+     * Returns the vertical alignment of the Indicator.
+     * 
+     * @return the vertical alignment of the component one of: CENTER
+     * @see #CENTER
+     */
+    public int getVerticalAlignment(){
+        return valign;
+    }
+    
+    /**
+     * Returns the behavior of the component
+     * 
+     * @return the behavior of the component
+     */
+    public int getBehaviour() {
+        return behaviour;
+    }
+    
+    /**
+     * Returns the orientation of the component
+     * 
+     * @return the orientation of the component
+     */
+    public int getOrientation() {
+        return orientation;
+    }
+
+    /**
+     * Returns the renderer of the component
+     * 
+     * @return the renderer of the component
+     */
+    public int getRenderer() {
+        return renderer;
+    }
+    
+    /**
+     * Returns the recorded drawing commands of the component, 
+     * used by the look and feel to paint the component
+     * 
+     * @return the display list of the component
+     */
+    public IndicatorDisplayList getDisplayList() {
+        return displayList;
+    }
+
+    /**
+     * Returns the current indicator
+     * 
+     * @return the current
+     */
+    public int getCurrent() {
+        return current;
+    }
+
+    /**
+     * Set the number of items in time-line
+     * 
+     * @param gap the gap in pixels
+     */
+    public int getMaxTimelineItems() {
+        return maxTimelineItems;
+    }
+
+    /**
+     * Returns the gap in pixels between the time-line items
+     * 
+     * @return the gap in pixels
+     */
+    public int getGap() {
+    	return gap;
+    }
+
+    /**
+     * Returns the gap in pixels between the time-line item and the navigation increment
+     * 
+     * @return the gap in pixels
+     */
+    public int getNavigationToItemGap() {
+        return naviToItemGap;
+    }
+
+    /**
+     * Returns the gap between navigation increment and navigation ends
+     * 
+     * @return the gap in pixels
+     */
+    public int getNavigationGap() {
+        return naviGap;
+    }
+
+    /**
+     * Returns the gap between navigation ends and component border
+     * 
+     * @return the gap in pixels
+     */
+    public int getNavigationToBorderGap() {
+        return naviToBorderGap;
+    }
+
+    /**
+     * Returns the component event listener
+     * 
+     * @return the component event listener
+     */
+    public IndicatorEventListener getIndicatorEventListener() {
+        return (IndicatorEventListener) this;
+    }
+    
+    /**
+     * Sets the trace measuring the latency from the navigation calls to the 
+     * paints showing them
+     * 
+     * @param latencyTrace the trace or null to disable the tracing
+     */
+    public void setLatencyTrace(IndicatorLatencyTrace latencyTrace) {
+        this.latencyTrace = latencyTrace;
+    }
+    
+    /**
+     * Returns the trace measuring the navigation latency
+     * 
+     * @return the trace or null if disabled
+     */
+    public IndicatorLatencyTrace getLatencyTrace() {
+        return latencyTrace;
+    }
+    
+    /**
+     * Sets the recorder logging the navigation calls and setter changes of 
+     * the component, to replay the session with an {@link IndicatorReplayer}.
+     * The state of the component (orientation, renderer, animation duration, 
+     * repaint rate, total, quantum, timeline items and current position) is
+     * logged first, so the replay starts from the same state.
+     * 
+     * @param recorder the recorder or null to stop recording
+     */
+    public void setRecorder(IndicatorRecorder recorder) {
+        this.recorder = recorder;
+        if(recorder != null) {
+            recorder.record(IndicatorRecorder.SET_ORIENTATION, orientation);
+            recorder.record(IndicatorRecorder.SET_RENDERER, renderer);
+            recorder.record(IndicatorRecorder.SET_ANIMATION_DURATION, animationDuration);
+            recorder.record(IndicatorRecorder.SET_MAX_REPAINT_RATE, maxRepaintRate);
+            recorder.record(IndicatorRecorder.SET_TOTAL, total);
+            recorder.record(IndicatorRecorder.SET_QUANTUM, quantum);
+            recorder.record(IndicatorRecorder.SET_MAX_TIMELINE_ITEMS, maxTimelineItems);
+            recorder.record(IndicatorRecorder.SET_CURRENT, current);
+        }
+    }
+    
+    /**
+     * Returns the recorder logging the navigation of the component
+     * 
+     * @return the recorder or null if not recording
+     */
+    public IndicatorRecorder getRecorder() {
+        return recorder;
+    }
+    
+    /**
+     * Lets an {@link IndicatorReplayer} tick the animations, so the component 
+     * slides without being shown on a form, the replayed calls are not recorded.
+     * The pacing and the animation restart from the time of the clock installed 
+     * by the caller, both when entering and when leaving the replay.
+     */
+    void setReplayed(boolean replayed) {
+        this.replayed = replayed;
+        animationStart = -1;
+        repaintPending = false;
+        displayList.setMotionProgress(IndicatorDisplayList.MOTION_DONE);
+        IndicatorAnimationClock.getInstance().stop(this);
+        lastRepaint = IndicatorClock.getInstance().currentTimeMillis();
+        if(!replayed && getComponentForm() != null) {
+            //Show the state the replay left
+            repaint();
+        }
+    }
+    
+    /**
+     * Lets the state of the component be changed from any thread. The 
+     * navigation methods, setCurrent(...), setTotal(...) and setQuantum(...) 
+     * called off the EDT are queued and applied together on the EDT through 
+     * Display.callSerially(...), followed by a single repaint. Painting and 
+     * {@link #getState(int[])} always see a consistent state. Change 
+     * listeners are invoked on the EDT and must not wait for other threads.
+     * 
+     * @param threadSafe true to accept state changes from any thread
+     */
+    public void setThreadSafe(boolean threadSafe) {
+        synchronized(stateLock) {
+            if(threadSafe && stateSync == null) {
+                stateSync = new Runnable() {
+                    public void run() {
+                        applyStateChanges();
+                    }
+                };
+            }
+            this.threadSafe = threadSafe;
+            publishedCurrent = current;
+            publishedTotal = total;
+            publishedQuantum = quantum;
+        }
+    }
+    
+    /**
+     * Returns true if the state of the component can be changed from any thread
+     * 
+     * @return true in the thread safe mode
+     */
+    public boolean isThreadSafe() {
+        return threadSafe;
+    }
+    
+    /**
+     * Reads the current, total and quantum at once, from any thread
+     * 
+     * @param state array of at least 3 elements receiving {current, total, quantum}
+     * @return the state array
+     */
+    public int[] getState(int[] state) {
+        synchronized(stateLock) {
+            if(threadSafe) {
+                state[0] = publishedCurrent;
+                state[1] = publishedTotal;
+                state[2] = publishedQuantum;
+            } else {
+                state[0] = current;
+                state[1] = total;
+                state[2] = quantum;
+            }
+        }
+        return state;
+    }
+    
+    /**
+     * Adds a listener notified when the current position changes
+     * 
+     * @param l the listener
+     */
+    public void addChangeListener(IndicatorChangeListener l) {
+        synchronized(changeListenersLock) {
+            IndicatorChangeListener[] listeners = changeListeners;
+            int count = listeners == null ? 0 : listeners.length;
+            IndicatorChangeListener[] copy = new IndicatorChangeListener[count + 1];
+            if(count > 0) {
+                System.arraycopy(listeners, 0, copy, 0, count);
+            }
+            copy[count] = l;
+            changeListeners = copy;
+        }
+    }
+    
+    /**
+     * Removes a change listener
+     * 
+     * @param l the listener
+     */
+    public void removeChangeListener(IndicatorChangeListener l) {
+        synchronized(changeListenersLock) {
+            IndicatorChangeListener[] listeners = changeListeners;
+            if(listeners == null) {
+                return;
+            }
+            for(int i = 0; i < listeners.length; i++) {
+                if(listeners[i] == l) {
+                    if(listeners.length == 1) {
+                        changeListeners = null;
+                        return;
+                    }
+                    IndicatorChangeListener[] copy = new IndicatorChangeListener[listeners.length - 1];
+                    System.arraycopy(listeners, 0, copy, 0, i);
+                    System.arraycopy(listeners, i + 1, copy, i, listeners.length - i - 1);
+                    changeListeners = copy;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the quantum of the component
+     * 
+     * @return the quantum
+     */
+    public int getQuantum() {
+        return quantum;
+    }
+
+    /**
+     * Returns the total of the component
+     * 
+     * @return the total
+     */
+    public int getTotal() {
+        return total;
+    }
+    
+    /**
+     * Returns the type of component
+     * 
+     * @return the type
+     */
+    public int getType() {
+        return type;
+    }
+    
+    /**
+     * Returns the navigation increment state of the component
+     * 
+     * @return the navigation increment state (TRUE / FALSE)
+     */
+    public boolean isNavigationIncrementShown() {
+        return showIncrement;
+    }
+
+    /**
+     * Returns the navigation ends state of the component
+     * 
+     * @return the navigation ends state (TRUE / FALSE)
+     */
+    public boolean isNavigationEndsShown() {
+        return showEnds;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    public void paint(Graphics g) {
+        //Nothing to paint when scrolled out of the visible area or obscured
+        if(getWidth() <= 0 || getHeight() <= 0 || !Rectangle.intersects(getX(), getY(), getWidth(), getHeight(),
+                g.getClipX(), g.getClipY(), g.getClipWidth(), g.getClipHeight())) {
+            return;
+        }
+        IndicatorLookAndFeel laf = (IndicatorLookAndFeel) UIManager.getInstance().getLookAndFeel();
+        if(isInTransition() && !displayList.isMoving()) {
+            //The content is static during a transition, paint a frozen image of it
+            //instead of running the full rendering on every animation frame
+            if(transitionSnapshot == null 
+                    || transitionSnapshot.getWidth() != getWidth() || transitionSnapshot.getHeight() != getHeight()) {
+                transitionSnapshot = createSnapshot(laf);
+            }
+            if(transitionSnapshot != null) {
+                g.drawImage(transitionSnapshot, getX(), getY());
+                return;
+            }
+        } else {
+            transitionSnapshot = null;
+        }
+        if(frameBudget == null) {
+            laf.drawIndicator(g, this);
+        } else {
+            long start = System.currentTimeMillis();
+            laf.drawIndicator(g, this);
+            frameBudget.paintFinished(this, (int) (System.currentTimeMillis() - start));
+        }
+        if(latencyTrace != null) {
+            latencyTrace.framePainted();
+        }
+    }
+    
+    /**
+     * Advances the undimmed item slide and flushes the folded navigation repaints,
+     * the component is driven by the {@link IndicatorAnimationClock} only meanwhile.
+     * 
+     * @inheritDoc
+     */
+    public boolean tick(long time) {
+        if(time - lastRepaint < getRepaintInterval()) {
+            //Paced, the slide follows the clock so the frame is just dropped
+            return false;
+        }
+        boolean repaint = repaintPending;
+        repaintPending = false;
+        if(animationStart >= 0) {
+            //The item moved, a transition started meanwhile needs a new frozen image
+            transitionSnapshot = null;
+            long elapsed = time - animationStart;
+            if(elapsed >= animationDuration || !displayList.hasHighlight()) {
+                animationStart = -1;
+                displayList.setMotionProgress(IndicatorDisplayList.MOTION_DONE);
+            } else {
+                displayList.setMotionProgress(ease((int) (elapsed * IndicatorDisplayList.MOTION_DONE / animationDuration)));
+            }
+            repaint = true;
+        }
+        if(repaint) {
+            lastRepaint = time;
+        }
+        return repaint;
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    public boolean isAnimating() {
+        return animationStart >= 0 || repaintPending;
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    public Component getAnimatedComponent() {
+        return this;
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    protected void deinitialize() {
+        repaintPending = false;
+        stopAnimation();
+        super.deinitialize();
+    }
+    
+    private void startAnimation() {
+        if(animationDuration <= 0 || (getComponentForm() == null && !replayed) || getQuality() >= IndicatorFrameBudget.QUALITY_NO_ANIMATION
+                || !displayList.isRecorded() || !displayList.hasHighlight()) {
+            stopAnimation();
+            return;
+        }
+        //Slide from where the item is painted now, which may be midway of a previous slide
+        int fromX = displayList.getPaintedHighlightX();
+        int fromY = displayList.getPaintedHighlightY();
+        displayList.startMotion(fromX, fromY);
+        animationStart = IndicatorClock.getInstance().currentTimeMillis();
+        startClock();
+    }
+    
+    private void startClock() {
+        if(!replayed) {
+            IndicatorAnimationClock.getInstance().start(this);
+        }
+    }
+    
+    private void stopAnimation() {
+        displayList.setMotionProgress(IndicatorDisplayList.MOTION_DONE);
+        if(animationStart < 0) {
+            return;
+        }
+        animationStart = -1;
+        if(!repaintPending) {
+            IndicatorAnimationClock.getInstance().stop(this);
+        }
+    }
+    
+    private int getRepaintInterval() {
+        return maxRepaintRate > 0 ? 1000 / maxRepaintRate : 0;
+    }
+    
+    /**
+     * Maps the linear progress to the eased one, both in 1/256
+     */
+    private static int ease(int progress) {
+        if(progress >= IndicatorDisplayList.MOTION_DONE) {
+            return IndicatorDisplayList.MOTION_DONE;
+        }
+        int index = progress >> 4;
+        int fraction = progress & 0xf;
+        return EASING[index] + (((EASING[index + 1] - EASING[index]) * fraction) >> 4);
+    }
+    
+    private boolean isInTransition() {
+        Vector queue = Display.getInstance().getAnimationQueue();
+        if(queue == null) {
+            return false;
+        }
+        for(int i = queue.size() - 1; i >= 0; i--) {
+            if(queue.elementAt(i) instanceof Transition) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private Image createSnapshot(IndicatorLookAndFeel laf) {
+        Image snapshot;
+        Style s = getStyle();
+        if(Image.isAlphaMutableImageSupported()) {
+            snapshot = Image.createImage(getWidth(), getHeight(), 0);
+        } else if((s.getBgTransparency() & 0xff) == 0xff) {
+            //The background is painted below the snapshot, use its color for the pixels left untouched
+            snapshot = Image.createImage(getWidth(), getHeight(), 0xff000000 | s.getBgColor());
+        } else {
+            return null;
+        }
+        Graphics g = snapshot.getGraphics();
+        g.translate(-getX(), -getY());
+        laf.drawIndicator(g, this);
+        return snapshot;
+    }
+    
+    /**
+     * Returns the focused images of the component. 
+     * The order of the images is {dimmed, undimmed, previous, next, first, last}
+     * 
+     * @return the images array
+     */
+    public Image[] getFocusedImages() {
+        return focusedImages;
+    }
+
+    /**
+     * Returns the non focused images of the component. 
+     * The order of the images is {dimmed, undimmed, previous, next, first, last}
+     * 
+     * @return the images array
+     */
+    public Image[] getNonFocusedImages() {
+        return nonFocusedImages;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    public String paramString() {
+        return super.paramString() + ", type = " + getType() + ", orientation = " + getOrientation() + ", behavior = " + getBehaviour() + ", quantum = " + getQuantum() + ", current = " + getCurrent() + ", total = " + getTotal() + ", gap = " + getGap() + ", item2naviGap = " + getNavigationToItemGap() + ", navi2naviGap = " + getNavigationGap() + ", naviToBorderGap = " + getNavigationToBorderGap();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    protected Dimension calcPreferredSize(){
+        return ((IndicatorLookAndFeel) UIManager.getInstance().getLookAndFeel()).getIndicatorPreferredSize(this);
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    public void styleChanged(String propertyName, Style source) {
+        super.styleChanged(propertyName, source);
+        if(Style.FG_COLOR.equals(propertyName)) {
+            tintMaskImages();
+        }
+        renderingChanged();
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    public void refreshTheme() {
+        super.refreshTheme();
+        tintMaskImages();
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    public void keyPressed(int keyCode) {
+        //Focus traversal is skipped for the handled keys only
+        setHandlesInput(false);
+        if(!keyNavigation) {
+            super.keyPressed(keyCode);
+            return;
+        }
+        int action = getKeyAction(keyCode);
+        if(action == 0) {
+            pressedAction = 0;
+            super.keyPressed(keyCode);
+            return;
+        }
+        setHandlesInput(true);
+        long now = IndicatorClock.getInstance().currentTimeMillis();
+        if(keyCode == lastPressedKey && now - lastPressedTime < keyDebounce) {
+            return;
+        }
+        lastPressedKey = keyCode;
+        lastPressedTime = now;
+        if(action == KEY_ACTION_DIGIT) {
+            enterDigit(keyCode - '0', now);
+            return;
+        }
+        pressedAction = action;
+        pressedTime = now;
+        navigate(action, 1);
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    public void keyRepeated(int keyCode) {
+        setHandlesInput(false);
+        if(!keyNavigation) {
+            super.keyRepeated(keyCode);
+            return;
+        }
+        int action = getKeyAction(keyCode);
+        if(action == 0) {
+            super.keyRepeated(keyCode);
+            return;
+        }
+        setHandlesInput(true);
+        if(action != pressedAction) {
+            //Repeat without a press seen by the component, e.g. focus gained meanwhile
+            pressedAction = action;
+            pressedTime = IndicatorClock.getInstance().currentTimeMillis();
+        }
+        if(action == KEY_ACTION_FIRST || action == KEY_ACTION_LAST || action == KEY_ACTION_DIGIT) {
+            return;
+        }
+        long held = IndicatorClock.getInstance().currentTimeMillis() - pressedTime;
+        if(held >= endsJumpDelay) {
+            navigate(action == KEY_ACTION_NEXT ? KEY_ACTION_LAST : KEY_ACTION_FIRST, 1);
+        } else if(held >= tenGroupsJumpDelay) {
+            navigate(action, 10 * maxTimelineItems);
+        } else if(held >= groupJumpDelay) {
+            navigate(action, maxTimelineItems);
+        } else {
+            navigate(action, 1);
+        }
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    public void keyReleased(int keyCode) {
+        if(keyNavigation && getKeyAction(keyCode) == pressedAction) {
+            pressedAction = 0;
+        }
+        super.keyReleased(keyCode);
+    }
+    
+    /**
+     * Returns the navigation action bound to a key, 0 if none
+     */
+    private int getKeyAction(int keyCode) {
+        for(int i = 0; i < keyBindingCount; i++) {
+            if(keyBindings[i * 2] == keyCode) {
+                return keyBindings[i * 2 + 1];
+            }
+        }
+        if(numberEntry && keyCode >= '0' && keyCode <= '9') {
+            return KEY_ACTION_DIGIT;
+        }
+        int game = Display.getInstance().getGameAction(keyCode);
+        if(orientation == ORIENTATION_VERTICAL) {
+            switch(game) {
+                case Display.GAME_UP:
+                    return KEY_ACTION_PREVIOUS;
+                case Display.GAME_DOWN:
+                    return KEY_ACTION_NEXT;
+            }
+        } else {
+            //Right to left indicators are painted mirrored, left moves forward
+            switch(game) {
+                case Display.GAME_LEFT:
+                    return isRTL() ? KEY_ACTION_NEXT : KEY_ACTION_PREVIOUS;
+                case Display.GAME_RIGHT:
+                    return isRTL() ? KEY_ACTION_PREVIOUS : KEY_ACTION_NEXT;
+            }
+        }
+        return 0;
+    }
+    
+    /**
+     * Performs a navigation action, moving the given number of items for 
+     * previous and next
+     */
+    private void navigate(int action, int items) {
+        switch(action) {
+            case KEY_ACTION_PREVIOUS:
+                if (-1 < current - quantum) {
+                    goTo(current - items * quantum);
+                }
+                break;
+            case KEY_ACTION_NEXT:
+                if (total > current + quantum) {
+                    goTo(current + items * quantum);
+                }
+                break;
+            case KEY_ACTION_FIRST:
+                first();
+                break;
+            case KEY_ACTION_LAST:
+                last();
+                break;
+        }
+    }
+    
+    /**
+     * Appends a typed digit to the page number and moves to the page
+     */
+    private void enterDigit(int digit, long now) {
+        int step = Math.max(1, quantum);
+        int pages = (total + step - 1) / step;
+        if(now - lastDigitTime > NUMBER_ENTRY_TIMEOUT) {
+            enteredNumber = 0;
+        }
+        lastDigitTime = now;
+        enteredNumber = enteredNumber * 10 + digit;
+        if(enteredNumber > pages) {
+            enteredNumber = digit;
+        }
+        if(enteredNumber > 0) {
+            goTo((enteredNumber - 1) * step);
+        }
+    }
+    
+    /**
+     * Returns the item or navigation at a pointer position. The hit table is 
+     * built when the component is recorded on a layout or state change, sorted 
+     * again only if an area changed and searched by binary search.
+     * 
+     * @param x the absolute x position
+     * @param y the absolute y position
+     * @return the position of the item or one of {@link #HIT_FIRST}, {@link #HIT_PREVIOUS}, 
+     * {@link #HIT_NEXT}, {@link #HIT_LAST} and {@link #HIT_NONE}
+     */
+    public int getHitArea(int x, int y) {
+        return ((IndicatorLookAndFeel) UIManager.getInstance().getLookAndFeel()).getIndicatorHitArea(this, x, y);
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    public void pointerPressed(int x, int y) {
+        super.pointerPressed(x, y);
+        pressedHit = getHitArea(x, y);
+        scrubbing = false;
+        scrubTarget = -1;
+        pointerSampleCount = 0;
+        pressedCoord = getPointerCoord(x, y);
+        pressedCurrent = current;
+        addPointerSample(pressedCoord);
+    }
+    
+    /**
+     * Dragging along the component scrubs through the positions, the position 
+     * is updated at most once per display frame
+     * 
+     * @inheritDoc
+     */
+    public void pointerDragged(int x, int y) {
+        int coord = getPointerCoord(x, y);
+        addPointerSample(coord);
+        if(!scrubbing) {
+            if(Math.abs(coord - pressedCoord) < Display.getInstance().convertToPixels(2, true)) {
+                super.pointerDragged(x, y);
+                return;
+            }
+            scrubbing = true;
+            pressedHit = HIT_NONE;
+        }
+        int step = Math.max(1, quantum);
+        scrubTarget = snap(Math.max(0, pressedCurrent) + (coord - pressedCoord) / getItemPitch() * step);
+        long now = IndicatorClock.getInstance().currentTimeMillis();
+        int frame = maxRepaintRate > 0 ? 1000 / maxRepaintRate : 1000 / Math.max(1, Display.getInstance().getFrameRate());
+        if(now - lastScrubTime >= frame) {
+            lastScrubTime = now;
+            applyScrubTarget();
+        }
+    }
+    
+    /**
+     * Tapping an item moves to its position, tapping a navigation navigates
+     * 
+     * @inheritDoc
+     */
+    public void pointerReleased(int x, int y) {
+        super.pointerReleased(x, y);
+        if(scrubbing) {
+            addPointerSample(getPointerCoord(x, y));
+            scrubbing = false;
+            applyScrubTarget();
+            fling();
+            return;
+        }
+        int hit = getHitArea(x, y);
+        if(hit != pressedHit) {
+            //Released away from the pressed area
+            pressedHit = HIT_NONE;
+            return;
+        }
+        pressedHit = HIT_NONE;
+        switch(hit) {
+            case HIT_NONE:
+                break;
+            case HIT_FIRST:
+                first();
+                break;
+            case HIT_PREVIOUS:
+                previous();
+                break;
+            case HIT_NEXT:
+                next();
+                break;
+            case HIT_LAST:
+                last();
+                break;
+            default:
+                goTo(hit);
+                break;
+        }
+    }
+    
+    /**
+     * Returns the pointer coordinate along the component, growing towards the last position
+     */
+    private int getPointerCoord(int x, int y) {
+        if(orientation == ORIENTATION_VERTICAL) {
+            return y;
+        }
+        //Right to left indicators are painted mirrored
+        return isRTL() ? -x : x;
+    }
+    
+    /**
+     * Returns the pointer distance scrubbing one step, about the pitch of the items
+     */
+    private int getItemPitch() {
+        int items = Math.max(1, Math.min(maxTimelineItems, total / Math.max(1, quantum)));
+        int length = orientation == ORIENTATION_VERTICAL ? getHeight() : getWidth();
+        return Math.max(1, length / items);
+    }
+    
+    private void addPointerSample(int coord) {
+        pointerCoords[pointerSampleNext] = coord;
+        pointerTimes[pointerSampleNext] = IndicatorClock.getInstance().currentTimeMillis();
+        pointerSampleNext = (pointerSampleNext + 1) % POINTER_SAMPLES;
+        pointerSampleCount = Math.min(POINTER_SAMPLES, pointerSampleCount + 1);
+    }
+    
+    private void applyScrubTarget() {
+        if(scrubTarget >= 0) {
+            int target = scrubTarget;
+            scrubTarget = -1;
+            goTo(target);
+        }
+    }
+    
+    /**
+     * Jumps whole groups when the pointer was released moving quickly, the velocity 
+     * is estimated from the samples of the last {@link #FLING_SAMPLE_TIME} milliseconds
+     */
+    private void fling() {
+        if(pointerSampleCount < 2) {
+            return;
+        }
+        int newest = (pointerSampleNext + POINTER_SAMPLES - 1) % POINTER_SAMPLES;
+        int oldest = newest;
+        for(int i = 1; i < pointerSampleCount; i++) {
+            int index = (newest + POINTER_SAMPLES - i) % POINTER_SAMPLES;
+            if(pointerTimes[newest] - pointerTimes[index] > FLING_SAMPLE_TIME) {
+                break;
+            }
+            oldest = index;
+        }
+        long time = Math.max(1, pointerTimes[newest] - pointerTimes[oldest]);
+        int distance = pointerCoords[newest] - pointerCoords[oldest];
+        //A fling covers at least 2mm in the sample time
+        if(oldest == newest || Math.abs(distance) * FLING_SAMPLE_TIME < Display.getInstance().convertToPixels(2, true) * time) {
+            return;
+        }
+        //Groups the pointer would cover in the next 250ms at the release velocity
+        int groupLength = Math.max(1, getItemPitch() * maxTimelineItems);
+        int groups = (int) (Math.abs(distance) * 250 / (time * groupLength));
+        groups = Math.max(1, Math.min(MAX_FLING_GROUPS, groups));
+        jumpGroups(distance > 0 ? groups : -groups);
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    protected void focusGained() {
+        super.focusGained();
+        renderingChanged();
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    protected void focusLost() {
+        super.focusLost();
+        renderingChanged();
+    }
+    
+    /**
+     * Right to left indicators are painted mirrored, so navigation 
+     * stays logical: {@link #next()} moves the undimmed item to the left.
+     * 
+     * @inheritDoc
+     */
+    public void setRTL(boolean rtl) {
+        super.setRTL(rtl);
+        renderingChanged();
+    }
+    
+    private void renderingChanged() {
+        displayList.invalidate();
+        transitionSnapshot = null;
+    }
+    
+    private void layoutChanged() {
+        shouldCalcPreferredSize = true;
+        renderingChanged();
+    }
+    
+    private void currentChanged(int previous) {
+        currentChanged(previous, true);
+    }
+    
+    /**
+     * Notifies the change of the current position and repaints the items which changed,
+     * the undimmed item slides to its new position unless slide is false
+     */
+    private void currentChanged(int previous, boolean slide) {
+        if(previous == current) {
+            //E.g. next() on the last item, nothing to repaint
+            if(latencyTrace != null) {
+                latencyTrace.inputIgnored();
+            }
+            return;
+        }
+        if(latencyTrace != null) {
+            latencyTrace.repaintRequested();
+        }
+        fireCurrentChanged(previous);
+        if(slide) {
+            startAnimation();
+        } else {
+            stopAnimation();
+        }
+        renderingChanged();
+        if(animationStart >= 0 || repaintPending) {
+            //Repainted by the next clock tick
+            return;
+        }
+        long now = IndicatorClock.getInstance().currentTimeMillis();
+        if(now - lastRepaint < getRepaintInterval() && (getComponentForm() != null || replayed)) {
+            //Fold the repaints of key repeats into the next tick within the rate
+            repaintPending = true;
+            startClock();
+            return;
+        }
+        lastRepaint = now;
+        //Repaint only the items which changed
+        ((IndicatorLookAndFeel) UIManager.getInstance().getLookAndFeel()).repaintIndicator(this);
+    }
+    
+    /**
+     * Queues a state change in the thread safe mode, applied at once on the EDT
+     * 
+     * @return false if the change has to be applied by the caller
+     */
+    private boolean postStateChange(int change, int argument) {
+        if(!threadSafe || applyingState && Display.getInstance().isEdt()) {
+            return false;
+        }
+        boolean schedule = false;
+        synchronized(stateLock) {
+            if(stateChanges == null || stateChangeCount * 2 == stateChanges.length) {
+                int[] grown = new int[stateChanges == null ? 16 : stateChanges.length * 2];
+                if(stateChanges != null) {
+                    System.arraycopy(stateChanges, 0, grown, 0, stateChangeCount * 2);
+                }
+                stateChanges = grown;
+            }
+            stateChanges[stateChangeCount * 2] = change;
+            stateChanges[stateChangeCount * 2 + 1] = argument;
+            stateChangeCount++;
+            if(!stateSyncScheduled && !Display.getInstance().isEdt()) {
+                //Later changes join the batch already posted
+                stateSyncScheduled = true;
+                schedule = true;
+            }
+        }
+        if(Display.getInstance().isEdt()) {
+            applyStateChanges();
+        } else if(schedule) {
+            Display.getInstance().callSerially(stateSync);
+        }
+        return true;
+    }
+    
+    /**
+     * Applies the queued state changes on the EDT
+     */
+    private void applyStateChanges() {
+        boolean layout = false;
+        int[] changes;
+        int count;
+        synchronized(stateLock) {
+            //Take the batch, the changes are applied after releasing the lock so the
+            //listeners and repaints never block the threads posting changes
+            stateSyncScheduled = false;
+            changes = stateChanges;
+            count = stateChangeCount;
+            stateChanges = spareStateChanges;
+            spareStateChanges = null;
+            stateChangeCount = 0;
+        }
+        applyingState = true;
+        try {
+            for(int i = 0; i < count; i++) {
+                int argument = changes[i * 2 + 1];
+                switch(changes[i * 2]) {
+                    case STATE_NEXT:
+                        next();
+                        break;
+                    case STATE_PREVIOUS:
+                        previous();
+                        break;
+                    case STATE_FIRST:
+                        first();
+                        break;
+                    case STATE_LAST:
+                        last();
+                        break;
+                    case STATE_GO_TO:
+                        goTo(argument);
+                        break;
+                    case STATE_JUMP_GROUPS:
+                        jumpGroups(argument);
+                        break;
+                    case STATE_SET_CURRENT:
+                        setCurrent(argument);
+                        break;
+                    case STATE_SET_TOTAL:
+                        layout |= total != argument;
+                        setTotal(argument);
+                        break;
+                    case STATE_SET_QUANTUM:
+                        layout |= quantum != argument;
+                        setQuantum(argument);
+                        break;
+                }
+                publishState();
+            }
+        } finally {
+            applyingState = false;
+            synchronized(stateLock) {
+                if(spareStateChanges == null) {
+                    spareStateChanges = changes;
+                }
+            }
+        }
+        if(layout) {
+            //The caller couldn't revalidate off the EDT
+            Form f = getComponentForm();
+            if(f != null) {
+                f.revalidate();
+            }
+        }
+    }
+    
+    private void publishState() {
+        synchronized(stateLock) {
+            publishedCurrent = current;
+            publishedTotal = total;
+            publishedQuantum = quantum;
+        }
+    }
+    
+    private void record(int call, int argument) {
+        IndicatorRecorder r = recorder;
+        if(r != null && !replayed) {
+            r.record(call, argument);
+        }
+    }
+    
+    private void fireCurrentChanged(int previous) {
+        //The array is never modified once published
+        IndicatorChangeListener[] listeners = changeListeners;
+        if(listeners == null) {
+            return;
+        }
+        for(int i = 0; i < listeners.length; i++) {
+            listeners[i].currentChanged(this, previous, current, total);
+        }
+    }
+    
+    private void checkNext() {
+        if (total /*- 1*/ > current + quantum) {
+            current = current + quantum;
+        }
+    }
+    
+    private void checkPrevious() {
+        if (-1 < current - quantum) {
+            current = current - quantum;
+        }
+    }
+    
+    private void checkFirst() {
+        current = 0;
+    }
+    
+    private void checkLast() {
+        current = ((total - 1) / quantum) * quantum;
+    }
+    
+    /**
+     * @nheritDoc
+     */
+    public void next() {
+        if(latencyTrace != null) {
+            //Stamped on entry, before the call is posted to the EDT
+            latencyTrace.inputReceived();
+        }
+        if(postStateChange(STATE_NEXT, 0)) {
+            return;
+        }
+        record(STATE_NEXT, 0);
+        int previous = current;
+        checkNext();
+        currentChanged(previous);
+    }
+    
+    /**
+     * @nheritDoc
+     */
+    public void previous() {
+        if(latencyTrace != null) {
+            latencyTrace.inputReceived();
+        }
+        if(postStateChange(STATE_PREVIOUS, 0)) {
+            return;
+        }
+        record(STATE_PREVIOUS, 0);
+        int previous = current;
+        checkPrevious();
+        currentChanged(previous);
+    }
+    
+    /**
+     * @nheritDoc
+     */
+    public void first() {
+        if(latencyTrace != null) {
+            latencyTrace.inputReceived();
+        }
+        if(postStateChange(STATE_FIRST, 0)) {
+            return;
+        }
+        record(STATE_FIRST, 0);
+        int previous = current;
+        checkFirst();
+        currentChanged(previous);
+    }
+    
+    /**
+     * @nheritDoc
+     */
+    public void last() {
+        if(latencyTrace != null) {
+            latencyTrace.inputReceived();
+        }
+        if(postStateChange(STATE_LAST, 0)) {
+            return;
+        }
+        record(STATE_LAST, 0);
+        int previous = current;
+        checkLast();
+        currentChanged(previous);
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    public void goTo(int position) {
+        if(latencyTrace != null) {
+            latencyTrace.inputReceived();
+        }
+        if(postStateChange(STATE_GO_TO, position)) {
+            return;
+        }
+        record(STATE_GO_TO, position);
+        int previous = current;
+        current = snap(position);
+        currentChanged(previous);
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    public void jumpGroups(int delta) {
+        if(latencyTrace != null) {
+            latencyTrace.inputReceived();
+        }
+        if(postStateChange(STATE_JUMP_GROUPS, delta)) {
+            return;
+        }
+        record(STATE_JUMP_GROUPS, delta);
+        int previous = current;
+        current = snap(Math.max(0, current) + delta * maxTimelineItems * Math.max(1, quantum));
+        currentChanged(previous);
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    public void setCurrent(int current) {
+        if(latencyTrace != null) {
+            latencyTrace.inputReceived();
+        }
+        if(postStateChange(STATE_SET_CURRENT, current)) {
+            return;
+        }
+        record(STATE_SET_CURRENT, current);
+        int previous = this.current;
+        this.current = snap(current);
+        currentChanged(previous, false);
+    }
+    
+    /**
+     * Clamps a position to the first and last position and snaps it to the quantum
+     */
+    private int snap(int position) {
+        if(total <= 0) {
+            return -1;
+        }
+        int step = Math.max(1, quantum);
+        position = Math.max(0, Math.min(total - 1, position));
+        return (position / step) * step;
+    }
+    
+    private void localize() {
+        //this.text =  UIManager.getInstance().localize(text, text);
+    }
+    
+
+    /**
+     * Load 'Indicator' images
+     * <br><br>
+     * <b>NOTE: </b>The resource location should have 6 (12 if focused images are included) files.
+     * A missing 'next' or 'last' navigation is flipped from 'previous' or 'first' and vice versa,
+     * vertical indicators rotate the navigations, see {@link #setNavigationRotated(boolean)}.
+     * <br><br>
+     * Each file is searched in the density bucket of the device first ('ldpi', 'mdpi', 'hdpi' 
+     * or 'xhdpi' sub folder of the resource location), then in the other buckets, then in the
+     * 'default' sub folder and finally in the resource location itself.
+     * <br><br>
+     * The files naming conventions is as follows
+     * <br>
+     * <b><i>NOTE: </i></b>In the filename '@' is not required, it should be replaced with your 'append' text
+     * <table border="1">
+     * <tr>
+     *   <td><b>Image Type</b></td>
+     *   <td><b>Image Non-Focused Filename</b></td>
+     *   <td><b>Image Focused Filename</b></td>
+     * </tr>
+     * <tr>
+     *   <td>Dimmed image</td>
+     *   <td>'indicatorDimmed@Image.png'</td>
+     *   <td>'indicatorDimmedFocus@Image.png'</td>
+     * </tr>
+     * <tr>
+     *   <td>Undimmed image</td>
+     *   <td>'indicatorUndimmed@Image.png'</td>
+     *   <td>'indicatorUndimmedFocus@Image.png'</td>
+     * </tr>
+     * <tr>
+     *   <td>Navigation First image</td>
+     *   <td>'indicatorFirst@Image.png'</td>
+     *   <td>'indicatorFirstFocus@Image.png'</td>
+     * </tr>
+     * <tr>
+     *   <td>Navigation Last image</td>
+     *   <td>'indicatorLast@Image.png'</td>
+     *   <td>'indicatorLastFocus@Image.png'</td>
+     * </tr>
+     * <tr>
+     *   <td>Navigation Previous image</td>
+     *   <td>'indicatorPrevious@Image.png'</td>
+     *   <td>'indicatorPreviousFocus@Image.png'</td>
+     * </tr>
+     * <tr>
+     *   <td>Navigation Next image</td>
+     *   <td>'indicatorNext@Image.png'</td>
+     *   <td>'indicatorNextFocus@Image.png'</td>
+     * </tr>
+     * </table>
+     * 
+     */
+    public void loadImages(String resPath, String append) {
+        if(null == resPath) {
+            if (type == TYPE_IMAGES) {
+                //loadImagesFromThemeConstant();
+                
+                //UIManager m = UIManager.getInstance();
+                //IndicatorLookAndFeel laf = (IndicatorLookAndFeel) m.getLookAndFeel();
+                //
+                //laf.updateIndicatorConstants(m, false, "");
+                //laf.updateIndicatorConstants(m, true, "Focus");
+                //
+                //laf = null;
+                //m = null;
+            }
+            
+            return;
+        }
+        if(null == append) {
+            append = "";
+        }
+        IndicatorResourceResolver resolver = ((IndicatorLookAndFeel) UIManager.getInstance().getLookAndFeel()).getResourceResolver(resPath);
+        if(resolver.resolve("indicatorDimmed" + append + "Image") == null
+                && resolver.resolve("indicatorItem" + append + "Mask") != null) {
+            loadMaskImages(resolver, append);
+            return;
+        }
+        String path = null;
+        /* Load Non-Focused Images */
+        boolean normalised = resolver.isNormalised(append);
+        try {
+            path = "indicatorDimmed" + append + "Image";
+            Image dimmed = resolver.createImage(path);
+            if(dimmed != null) {
+                path = "indicatorUndimmed" + append + "Image";
+                Image undimmed = resolver.createImage(path);
+                if(undimmed != null) {
+                    //FIXME Scale the undimmed/dimmed image to dimmed/undimmed image dimension
+                    //as non-proportional images are currently not supported
+                    //unless normalised by the build
+                    if(!normalised) {
+                        if(dimmed.getWidth() <= undimmed.getWidth()) {
+                            undimmed = undimmed.scaledSmallerRatio(dimmed.getWidth(), dimmed.getHeight());
+                        } else {
+                            dimmed = dimmed.scaledSmallerRatio(undimmed.getWidth(), undimmed.getHeight());
+                        }
+                    }
+
+                    //FIXME Scale the navigation images to dimmed height to align them properly in the widget
+                    //as non-proportional images are currently not supported
+                    Image next = null;
+                    try {
+                        path = "indicatorNext" + append + "Image";
+                        next = loadNavigation(resolver, path);
+                        if (!normalised && next != null) {
+                            next.scaledHeight(dimmed.getHeight());
+                        }
+                    } catch (IOException iOException) {
+                        System.out.println("("+path+") image not found");
+                    }
+                    Image previous = null;
+                    try {
+                        path = "indicatorPrevious" + append + "Image";
+                        previous = loadNavigation(resolver, path);
+                        if (!normalised && previous != null && next != null) {
+                            previous.scaledHeight(next.getHeight());
+                        }
+                    } catch (IOException iOException) {
+                        System.out.println("("+path+") image not found");
+                    }
+                    Image first = null;
+                    try {
+                        path = "indicatorFirst" + append + "Image";
+                        first = loadNavigation(resolver, path);
+                        if (!normalised && first != null) {
+                            first.scaledHeight(dimmed.getHeight());
+                        }
+                    } catch (IOException iOException) {
+                        System.out.println("("+path+") image not found");
+                    }
+                    Image last = null;
+                    try {
+                        path = "indicatorLast" + append + "Image";
+                        last = loadNavigation(resolver, path);
+                        if (!normalised && last != null && next != null) {
+                            last.scaledHeight(next.getHeight());
+                        }
+                    } catch (IOException iOException) {
+                        System.out.println("("+path+") image not found");
+                    }
+                    nonFocusedImages = new Image[]{dimmed, undimmed, previous, next, first, last};
+                    IndicatorImageCache.deriveNavigations(nonFocusedImages);
+                    nonFocusedImages = storeImages(nonFocusedImages);
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("("+path+") image not found");
+        }
+        /* Load Focused Images */
+        normalised = resolver.isNormalised("Focus" + append);
+        try {
+            path = "indicatorDimmedFocus" + append + "Image";
+            Image dimmed = resolver.createImage(path);
+            if(dimmed != null) {
+                path = "indicatorUndimmedFocus" + append + "Image";
+                Image undimmed = resolver.createImage(path);
+                if(undimmed != null) {
+                    //FIXME Scale the undimmed/dimmed image to dimmed/undimmed image dimension
+                    //as non-proportional images are currently not supported
+                    //unless normalised by the build
+                    if(!normalised) {
+                        if(dimmed.getWidth() <= undimmed.getWidth()) {
+                            undimmed = undimmed.scaledSmallerRatio(dimmed.getWidth(), dimmed.getHeight());
+                        } else {
+                            dimmed = dimmed.scaledSmallerRatio(undimmed.getWidth(), undimmed.getHeight());
+                        }
+                    }
+
+                    //FIXME Scale the navigation images to dimmed height to align them properly in the widget
+                    //as non-proportional images are currently not supported
+                    Image next = null;
+                    try {
+                        path = "indicatorNextFocus" + append + "Image";
+                        next = loadNavigation(resolver, path);
+                        if (!normalised && next != null) {
+                            next.scaledHeight(dimmed.getHeight());
+                        }
+                    } catch (IOException iOException) {
+                        System.out.println("("+path+") image not found");
+                    }
+                    Image previous = null;
+                    try {
+                        path = "indicatorPreviousFocus" + append + "Image";
+                        previous = loadNavigation(resolver, path);
+                        if (!normalised && previous != null && next != null) {
+                            previous.scaledHeight(next.getHeight());
+                        }
+                    } catch (IOException iOException) {
+                        System.out.println("("+path+") image not found");
+                    }
+                    Image first = null;
+                    try {
+                        path = "indicatorFirstFocus" + append + "Image";
+                        first = loadNavigation(resolver, path);
+                        if (!normalised && first != null) {
+                            first.scaledHeight(dimmed.getHeight());
+                        }
+                    } catch (IOException iOException) {
+                        System.out.println("("+path+") image not found");
+                    }
+                    Image last = null;
+                    try {
+                        path = "indicatorLastFocus" + append + "Image";
+                        last = loadNavigation(resolver, path);
+                        if (!normalised && last != null && next != null) {
+                            last.scaledHeight(next.getHeight());
+                        }
+                    } catch (IOException iOException) {
+                        System.out.println("("+path+") image not found");
+                    }
+                    focusedImages = new Image[]{dimmed, undimmed, previous, next, first, last};
+                    IndicatorImageCache.deriveNavigations(focusedImages);
+                    focusedImages = storeImages(focusedImages);
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("("+path+") image not found");
+        }
+    }
+    
+    /**
+     * Load 'Indicator' alpha masks, see {@link #setMaskImages(Image, Image, Image)}
+     * <br><br>
+     * The files naming conventions is as follows
+     * <br>
+     * <b><i>NOTE: </i></b>In the filename '@' is not required, it should be replaced with your 'append' text
+     * <table border="1">
+     * <tr>
+     *   <td><b>Mask Type</b></td>
+     *   <td><b>Mask Filename</b></td>
+     * </tr>
+     * <tr>
+     *   <td>Item mask</td>
+     *   <td>'indicatorItem@Mask.png'</td>
+     * </tr>
+     * <tr>
+     *   <td>Navigation arrow mask (pointing left)</td>
+     *   <td>'indicatorArrow@Mask.png'</td>
+     * </tr>
+     * <tr>
+     *   <td>Navigation double arrow mask (pointing left)</td>
+     *   <td>'indicatorDoubleArrow@Mask.png'</td>
+     * </tr>
+     * </table>
+     * <br>
+     * {@link #loadImages(String, String)} falls back to the masks when the resource 
+     * location has no dimmed image.
+     * 
+     * @param resPath the resource location
+     * @param append the text appended to the file names, might be null
+     */
+    public void loadMaskImages(String resPath, String append) {
+        if(null == resPath) {
+            return;
+        }
+        if(null == append) {
+            append = "";
+        }
+        loadMaskImages(((IndicatorLookAndFeel) UIManager.getInstance().getLookAndFeel()).getResourceResolver(resPath), append);
+    }
+    
+    /**
+     * Returns null for a missing navigation, it's flipped from its opposite
+     */
+    private static Image loadNavigation(IndicatorResourceResolver resolver, String path) throws IOException {
+        if(resolver.resolve(path) == null) {
+            return null;
+        }
+        return resolver.createImage(path);
+    }
+    
+    private void loadMaskImages(IndicatorResourceResolver resolver, String append) {
+        String path = "indicatorItem" + append + "Mask";
+        try {
+            Image item = resolver.createImage(path);
+            Image arrow = null;
+            Image doubleArrow = null;
+            path = "indicatorArrow" + append + "Mask";
+            if(resolver.resolve(path) != null) {
+                arrow = resolver.createImage(path);
+            }
+            path = "indicatorDoubleArrow" + append + "Mask";
+            if(resolver.resolve(path) != null) {
+                doubleArrow = resolver.createImage(path);
+            }
+            setMaskImages(item, arrow, doubleArrow);
+        } catch (IOException e) {
+            System.out.println("("+path+") image not found");
+        }
+    }
+    
+//    private void loadImagesFromThemeConstant() {
+//        UIManager m = UIManager.getInstance();
+//        /* Load Non-Focused Images */
+//        Image dimmed = m.getThemeImageConstant("Indicator.indicatorDimmedImage");
+//        if(dimmed != null) {
+//            Image undimmed = m.getThemeImageConstant("Indicator.indicatorUndimmedImage");
+//            if(undimmed != null) {
+//                //FIXME Scale the undimmed/dimmed image to dimmed/undimmed image dimension
+//                //as non-proportional images are currently not supported
+//                if(dimmed.getWidth() <= undimmed.getWidth()) {
+//                    undimmed = undimmed.scaledSmallerRatio(dimmed.getWidth(), dimmed.getHeight());
+//                } else {
+//                    dimmed = dimmed.scaledSmallerRatio(undimmed.getWidth(), undimmed.getHeight());
+//                }
+//    
+//                //FIXME Scale the navigation images to dimmed height to align them properly in the widget
+//                //as non-proportional images are currently not supported
+//                Image next = m.getThemeImageConstant("Indicator.indicatorNextImage");
+//                if (next != null) {
+//                    next.scaledHeight(dimmed.getHeight());
+//                }
+//                Image previous = m.getThemeImageConstant("Indicator.indicatorPreviousImage");
+//                if (previous != null && next != null) {
+//                    previous.scaledHeight(next.getHeight());
+//                }
+//                Image first = m.getThemeImageConstant("Indicator.indicatorFirstImage");
+//                if (first != null) {
+//                    first.scaledHeight(dimmed.getHeight());
+//                }
+//                Image last = m.getThemeImageConstant("Indicator.indicatorLastImage");
+//                if (last != null && next != null) {
+//                    last.scaledHeight(next.getHeight());
+//                }
+//                nonFocusedImages = new Image[]{dimmed, undimmed, previous, next, first, last};
+//            }
+//        }
+//        /* Load Focused Images */
+//        dimmed = m.getThemeImageConstant("Indicator.indicatorDimmedFocusImage");
+//        if(dimmed != null) {
+//            Image undimmed = m.getThemeImageConstant("Indicator.indicatorUndimmedFocusImage");
+//            if(undimmed != null) {
+//                //FIXME Scale the undimmed/dimmed image to dimmed/undimmed image dimension
+//                //as non-proportional images are currently not supported
+//                    if(dimmed.getWidth() <= undimmed.getWidth()) {
+//                            undimmed = undimmed.scaledSmallerRatio(dimmed.getWidth(), dimmed.getHeight());
+//                    } else {
+//                            dimmed = dimmed.scaledSmallerRatio(undimmed.getWidth(), undimmed.getHeight());
+//                    }
+//    
+//                //FIXME Scale the navigation images to dimmed height to align them properly in the widget
+//                //as non-proportional images are currently not supported
+//                Image next = m.getThemeImageConstant("Indicator.indicatorNextFocusImage");
+//                if (next != null) {
+//                    next.scaledHeight(dimmed.getHeight());
+//                }
+//                Image previous = m.getThemeImageConstant("Indicator.indicatorPreviousFocusImage");
+//                if (previous != null && next != null) {
+//                    previous.scaledHeight(next.getHeight());
+//                }
+//                Image first = m.getThemeImageConstant("Indicator.indicatorFirstFocusImage");
+//                if (first != null) {
+//                    first.scaledHeight(dimmed.getHeight());
+//                }
+//                Image last = m.getThemeImageConstant("Indicator.indicatorLastFocusImage");
+//                if (last != null && next != null) {
+//                    last.scaledHeight(next.getHeight());
+//                }
+//                focusedImages = new Image[]{dimmed, undimmed, previous, next, first, last};
+//            }
+//        }
+//    }
+}
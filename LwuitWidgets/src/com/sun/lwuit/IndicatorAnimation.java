@@ -0,0 +1,35 @@
+package com.sun.lwuit;
+
+/**
+ * Animation driven by the shared {@link IndicatorAnimationClock}, e.g. the
+ * undimmed item slide of an {@link Indicator}, a fade or a loading spinner.
+ *
+ * @since LWUIT 1.4
+ *
+ * @version 1.0
+ *
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public interface IndicatorAnimation {
+    /**
+     * Advances the animation to the given time
+     *
+     * @param time the time of the clock tick in milliseconds
+     * @return true if the component has to be repainted for this tick
+     */
+    public boolean tick(long time);
+
+    /**
+     * Checks whether the clock has to keep ticking the animation
+     *
+     * @return true while the animation runs, false once it reached its end
+     */
+    public boolean isAnimating();
+
+    /**
+     * Returns the component painting the animation, its bounds are repainted after the ticks asking for it
+     *
+     * @return the animated component
+     */
+    public Component getAnimatedComponent();
+}
@@ -0,0 +1,182 @@
+package com.sun.lwuit;
+
+import com.sun.lwuit.animations.Animation;
+import java.util.Vector;
+
+/**
+ * Single clock driving every running {@link IndicatorAnimation} of the widgets.
+ * <br><br>
+ * The clock is the only animation registered with the forms showing the
+ * animations, so a form polls one animation per tick however many widgets
+ * animate. All animations advance to the same time, the bounds of the
+ * components asking for a repaint are merged so each form is repainted once
+ * per tick, within the union of its changed components. The clock 
+ * deregisters itself as soon as the last animation ends, an idle form costs
+ * nothing.
+ * <br><br>
+ * Must be used on the EDT.
+ *
+ * @version 1.0
+ *
+ * @since LWUIT 1.4
+ *
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public class IndicatorAnimationClock implements Animation {
+    private static IndicatorAnimationClock instance = new IndicatorAnimationClock();
+
+    private final Vector animations = new Vector();
+
+    /** Forms the clock is registered with, empty while idle */
+    private final Vector forms = new Vector();
+
+    /** Forms repainted by the current tick */
+    private final Vector dirtyForms = new Vector();
+
+    /** Absolute x, y, right and bottom of the area to repaint, per dirty form */
+    private final Vector dirtyBounds = new Vector();
+
+    IndicatorAnimationClock() {
+    }
+
+    /**
+     * Returns the shared clock
+     *
+     * @return the clock instance
+     */
+    public static IndicatorAnimationClock getInstance() {
+        return instance;
+    }
+
+    /**
+     * Starts driving an animation, does nothing if it already runs
+     *
+     * @param animation the animation to drive
+     */
+    public void start(IndicatorAnimation animation) {
+        if (!animations.contains(animation)) {
+            animations.addElement(animation);
+        }
+        Component c = animation.getAnimatedComponent();
+        Form f = c == null ? null : c.getComponentForm();
+        if (f == null) {
+            f = Display.getInstance().getCurrent();
+        }
+        if (f != null && !forms.contains(f)) {
+            //Whichever of the forms is shown polls the clock
+            forms.addElement(f);
+            f.registerAnimated(this);
+        }
+    }
+
+    /**
+     * Stops driving an animation, the clock stops with the last one
+     *
+     * @param animation the animation to stop
+     */
+    public void stop(IndicatorAnimation animation) {
+        animations.removeElement(animation);
+        if (animations.isEmpty()) {
+            stopClock();
+        }
+    }
+
+    /**
+     * Checks whether an animation is driven by the clock
+     *
+     * @param animation the animation
+     * @return true if the animation runs
+     */
+    public boolean isRunning(IndicatorAnimation animation) {
+        return animations.contains(animation);
+    }
+
+    /**
+     * Checks whether any animation runs
+     *
+     * @return true if the clock is ticking
+     */
+    public boolean isRunning() {
+        return !forms.isEmpty();
+    }
+
+    /**
+     * Advances every animation and repaints the changed components, once per form
+     *
+     * @inheritDoc
+     */
+    public boolean animate() {
+        long time = IndicatorClock.getInstance().currentTimeMillis();
+        //Backwards, ended animations are removed on the way
+        for (int i = animations.size() - 1; i >= 0; i--) {
+            if (i >= animations.size()) {
+                //An animation stopped others while ticking
+                continue;
+            }
+            IndicatorAnimation animation = (IndicatorAnimation) animations.elementAt(i);
+            boolean repaint = animation.tick(time);
+            Component c = animation.getAnimatedComponent();
+            if (repaint && c != null && c.isVisible()) {
+                //Merged on its own form, which may not be the form polling the clock
+                addDirty(c);
+            }
+            if (!animation.isAnimating()) {
+                animations.removeElement(animation);
+            }
+        }
+        for (int i = 0; i < dirtyForms.size(); i++) {
+            int[] b = (int[]) dirtyBounds.elementAt(i);
+            ((Form) dirtyForms.elementAt(i)).repaint(b[0], b[1], b[2] - b[0], b[3] - b[1]);
+        }
+        dirtyForms.removeAllElements();
+        if (animations.isEmpty()) {
+            stopClock();
+        }
+        //The forms are repainted above, there is nothing to paint for the clock itself
+        return false;
+    }
+
+    private void addDirty(Component c) {
+        Form f = c.getComponentForm();
+        if (f == null) {
+            return;
+        }
+        int x = c.getAbsoluteX();
+        int y = c.getAbsoluteY();
+        int right = x + c.getWidth();
+        int bottom = y + c.getHeight();
+        int index = dirtyForms.indexOf(f);
+        if (index < 0) {
+            index = dirtyForms.size();
+            dirtyForms.addElement(f);
+            //The bounds arrays are kept between ticks
+            if (index == dirtyBounds.size()) {
+                dirtyBounds.addElement(new int[4]);
+            }
+            int[] b = (int[]) dirtyBounds.elementAt(index);
+            b[0] = x;
+            b[1] = y;
+            b[2] = right;
+            b[3] = bottom;
+        } else {
+            int[] b = (int[]) dirtyBounds.elementAt(index);
+            b[0] = Math.min(b[0], x);
+            b[1] = Math.min(b[1], y);
+            b[2] = Math.max(b[2], right);
+            b[3] = Math.max(b[3], bottom);
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    public void paint(Graphics g) {
+    }
+
+    private void stopClock() {
+        for (int i = forms.size() - 1; i >= 0; i--) {
+            ((Form) forms.elementAt(i)).deregisterAnimated(this);
+        }
+        forms.removeAllElements();
+    }
+}
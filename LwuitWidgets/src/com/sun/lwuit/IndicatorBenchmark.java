@@ -0,0 +1,180 @@
+package com.sun.lwuit;
+
+import com.sun.lwuit.geom.Dimension;
+import com.sun.lwuit.plaf.IndicatorLookAndFeel;
+import com.sun.lwuit.plaf.UIManager;
+
+/**
+ * Times the renderers of a reference indicator painted offscreen, so the
+ * fastest one can be picked for a device.
+ * <br><br>
+ * Each renderer is timed painting the same state over and over (steady paint)
+ * and painting after every state change (update), as the display list and
+ * RGB renderers pay for recording on change only.
+ *
+ * @version 1.0
+ *
+ * @since LWUIT 1.4
+ *
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public class IndicatorBenchmark {
+    /** Number of paints timed for each renderer by default */
+    public static final int DEFAULT_ITERATIONS = 200;
+
+    /** Renderers timed by the benchmark */
+    public static final int[] RENDERERS = {
+        Indicator.RENDERER_DIRECT, Indicator.RENDERER_DISPLAY_LIST, Indicator.RENDERER_RGB
+    };
+
+    private final Indicator indicator;
+
+    private final int iterations;
+
+    private long[] paintTimes;
+
+    private long[] updateTimes;
+
+    /**
+     * Creates a benchmark for the given reference indicator
+     *
+     * @param indicator the reference indicator, sized to its preferred size if it has no size
+     * @param iterations the number of paints timed for each renderer
+     */
+    public IndicatorBenchmark(Indicator indicator, int iterations) {
+        this.indicator = indicator;
+        this.iterations = Math.max(1, iterations);
+    }
+
+    /**
+     * Times every renderer, the renderer of the indicator is restored afterwards.
+     * Must be invoked on the EDT.
+     */
+    public void run() {
+        if (indicator.getWidth() <= 0 || indicator.getHeight() <= 0) {
+            Dimension d = indicator.getPreferredSize();
+            indicator.setSize(d);
+        }
+        IndicatorLookAndFeel laf = (IndicatorLookAndFeel) UIManager.getInstance().getLookAndFeel();
+        Image offscreen = Image.createImage(Math.max(1, indicator.getWidth()), Math.max(1, indicator.getHeight()));
+        Graphics g = offscreen.getGraphics();
+        g.translate(-indicator.getX(), -indicator.getY());
+
+        int renderer = indicator.getRenderer();
+        paintTimes = new long[RENDERERS.length];
+        updateTimes = new long[RENDERERS.length];
+        for (int i = 0; i < RENDERERS.length; i++) {
+            indicator.setRenderer(RENDERERS[i]);
+            //Warm up the caches of the renderer
+            laf.drawIndicator(g, indicator);
+
+            long start = System.currentTimeMillis();
+            for (int j = 0; j < iterations; j++) {
+                laf.drawIndicator(g, indicator);
+            }
+            paintTimes[i] = System.currentTimeMillis() - start;
+
+            start = System.currentTimeMillis();
+            for (int j = 0; j < iterations; j++) {
+                //Setting the renderer drops the recorded state as a state change does
+                indicator.setRenderer(RENDERERS[i]);
+                laf.drawIndicator(g, indicator);
+            }
+            updateTimes[i] = System.currentTimeMillis() - start;
+        }
+        indicator.setRenderer(renderer);
+        g = null;
+        offscreen = null;
+    }
+
+    /**
+     * Returns the time in milliseconds taken by the steady paints of a renderer
+     *
+     * @param renderer one of {@link #RENDERERS}
+     * @return the time of the paints or -1 if not timed
+     */
+    public long getPaintTime(int renderer) {
+        return getTime(paintTimes, renderer);
+    }
+
+    /**
+     * Returns the time in milliseconds taken by the paints after state changes of a renderer
+     *
+     * @param renderer one of {@link #RENDERERS}
+     * @return the time of the paints or -1 if not timed
+     */
+    public long getUpdateTime(int renderer) {
+        return getTime(updateTimes, renderer);
+    }
+
+    /**
+     * Returns the renderer with the lowest total of steady paints and updates
+     *
+     * @return the fastest renderer or -1 if the benchmark didn't run
+     */
+    public int getFastestRenderer() {
+        if (paintTimes == null) {
+            return -1;
+        }
+        int fastest = 0;
+        for (int i = 1; i < RENDERERS.length; i++) {
+            if (paintTimes[i] + updateTimes[i] < paintTimes[fastest] + updateTimes[fastest]) {
+                fastest = i;
+            }
+        }
+        return RENDERERS[fastest];
+    }
+
+    /**
+     * Returns the name of a renderer
+     *
+     * @param renderer the renderer
+     * @return readable name of the renderer
+     */
+    public static String getRendererName(int renderer) {
+        switch (renderer) {
+            case Indicator.RENDERER_DIRECT:
+                return "direct";
+            case Indicator.RENDERER_DISPLAY_LIST:
+                return "display list";
+            case Indicator.RENDERER_RGB:
+                return "drawRGB";
+            default:
+                return "unknown";
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    public String toString() {
+        if (paintTimes == null) {
+            return "not run";
+        }
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < RENDERERS.length; i++) {
+            sb.append(getRendererName(RENDERERS[i]));
+            sb.append(": paint = ");
+            sb.append(paintTimes[i]);
+            sb.append("ms, update = ");
+            sb.append(updateTimes[i]);
+            sb.append("ms\n");
+        }
+        sb.append(iterations);
+        sb.append(" paints each, fastest: ");
+        sb.append(getRendererName(getFastestRenderer()));
+        return sb.toString();
+    }
+
+    private long getTime(long[] times, int renderer) {
+        if (times == null) {
+            return -1;
+        }
+        for (int i = 0; i < RENDERERS.length; i++) {
+            if (RENDERERS[i] == renderer) {
+                return times[i];
+            }
+        }
+        return -1;
+    }
+}
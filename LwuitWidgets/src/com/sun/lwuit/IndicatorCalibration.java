@@ -0,0 +1,188 @@
+package com.sun.lwuit;
+
+import com.sun.lwuit.io.Storage;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Picks the fastest indicator renderer of the device by timing the renderers
+ * of a reference indicator offscreen, see {@link IndicatorBenchmark}.
+ * <br><br>
+ * The winning renderer is kept in the LWUIT IO {@link Storage} (RMS on MIDP,
+ * a file on desktop), later launches read it back and every new indicator
+ * uses it unless a renderer is set explicitly. The storage must be
+ * initialized by the application for the result to persist.
+ * <br><br>
+ * Calibration is optional, typically triggered once at first launch:
+ * <pre>
+ *     IndicatorCalibration.calibrateOnce();
+ * </pre>
+ *
+ * @version 1.0
+ *
+ * @since LWUIT 1.4
+ *
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public class IndicatorCalibration {
+    /** Name of the storage entry keeping the calibration */
+    public static final String STORAGE_NAME = "IndicatorCalibration";
+
+    private static final int VERSION = 1;
+
+    /** 0 if the storage wasn't read yet, -1 if not calibrated */
+    private static int renderer = 0;
+
+    private static String result = null;
+
+    private IndicatorCalibration() {
+    }
+
+    /**
+     * Returns the renderer chosen by the calibration
+     *
+     * @return the calibrated renderer or -1 if the device wasn't calibrated
+     */
+    public static synchronized int getRenderer() {
+        if (renderer == 0) {
+            load();
+        }
+        return renderer;
+    }
+
+    /**
+     * Returns the timings of the calibration, for logging and telemetry
+     *
+     * @return readable result of the calibration or null if the device wasn't calibrated
+     */
+    public static synchronized String getResult() {
+        if (renderer == 0) {
+            load();
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether the device was calibrated
+     *
+     * @return true if a calibrated renderer is available
+     */
+    public static boolean isCalibrated() {
+        return getRenderer() > 0;
+    }
+
+    /**
+     * Calibrates the device unless it was calibrated by an earlier launch.
+     * Must be invoked on the EDT.
+     *
+     * @return the calibrated renderer
+     */
+    public static int calibrateOnce() {
+        if (isCalibrated()) {
+            return getRenderer();
+        }
+        return calibrate();
+    }
+
+    /**
+     * Calibrates the device with a default reference indicator, drawn with the
+     * images of the look and feel if the theme has any.
+     * Must be invoked on the EDT.
+     *
+     * @return the calibrated renderer
+     */
+    public static int calibrate() {
+        Indicator reference = new Indicator(Indicator.TYPE_RAW_DOTS);
+        reference.setTotal(7);
+        return calibrate(reference);
+    }
+
+    /**
+     * Calibrates the device with the given reference indicator and stores the result.
+     * Must be invoked on the EDT.
+     *
+     * @param reference indicator representative of the application
+     * @return the calibrated renderer
+     */
+    public static int calibrate(Indicator reference) {
+        IndicatorBenchmark benchmark = new IndicatorBenchmark(reference, IndicatorBenchmark.DEFAULT_ITERATIONS);
+        benchmark.run();
+        int fastest = benchmark.getFastestRenderer();
+        String text = benchmark.toString();
+        synchronized (IndicatorCalibration.class) {
+            renderer = fastest;
+            result = text;
+        }
+        store(fastest, text);
+        return fastest;
+    }
+
+    /**
+     * Drops the calibration, the next launch has to calibrate again
+     */
+    public static synchronized void reset() {
+        renderer = -1;
+        result = null;
+        if (Storage.isInitialized()) {
+            Storage.getInstance().deleteStorageFile(STORAGE_NAME);
+        }
+    }
+
+    private static void load() {
+        renderer = -1;
+        result = null;
+        if (!Storage.isInitialized() || !Storage.getInstance().exists(STORAGE_NAME)) {
+            return;
+        }
+        DataInputStream in = null;
+        boolean failed = false;
+        try {
+            in = new DataInputStream(Storage.getInstance().createInputStream(STORAGE_NAME));
+            if (in.readInt() == VERSION) {
+                renderer = in.readInt();
+                result = in.readUTF();
+            }
+        } catch (IOException e) {
+            failed = true;
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                }
+            }
+        }
+        if (failed) {
+            //Corrupt entry, stay uncalibrated
+            reset();
+        }
+    }
+
+    private static void store(int renderer, String result) {
+        if (!Storage.isInitialized()) {
+            return;
+        }
+        DataOutputStream out = null;
+        boolean failed = false;
+        try {
+            out = new DataOutputStream(Storage.getInstance().createOutputStream(STORAGE_NAME));
+            out.writeInt(VERSION);
+            out.writeInt(renderer);
+            out.writeUTF(result);
+        } catch (IOException e) {
+            failed = true;
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                }
+            }
+        }
+        if (failed) {
+            //Don't leave a partial entry, stay uncalibrated
+            reset();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.sun.lwuit;
+
+/**
+ * Notified when the current position of an Indicator changes
+ * 
+ * @since LWUIT 1.4
+ * 
+ * @version 1.0
+ * 
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public interface IndicatorChangeListener {
+    /**
+     * Invoked after the current position changed, before the repaint
+     * 
+     * @param source the indicator
+     * @param oldCurrent the previous position
+     * @param newCurrent the new position
+     * @param total the total of the indicator
+     */
+    public void currentChanged(Indicator source, int oldCurrent, int newCurrent, int total);
+}
@@ -0,0 +1,46 @@
+package com.sun.lwuit;
+
+/**
+ * Time source of the indicator widgets for animations, repaint pacing, key 
+ * acceleration and gestures. The system clock by default, replaced by an 
+ * {@link IndicatorManualClock} to replay navigation sessions deterministically.
+ * <br><br>
+ * Paint times (frame budget, latency trace) are always measured with the 
+ * system clock.
+ * 
+ * @version 1.0
+ * 
+ * @since LWUIT 1.4
+ * 
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public class IndicatorClock {
+    private static IndicatorClock instance = new IndicatorClock();
+    
+    /**
+     * Returns the clock used by the widgets
+     * 
+     * @return the clock instance
+     */
+    public static IndicatorClock getInstance() {
+        return instance;
+    }
+    
+    /**
+     * Replaces the clock used by the widgets
+     * 
+     * @param clock the clock or null for the system clock
+     */
+    public static void setInstance(IndicatorClock clock) {
+        instance = clock == null ? new IndicatorClock() : clock;
+    }
+    
+    /**
+     * Returns the current time
+     * 
+     * @return the time in milliseconds
+     */
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
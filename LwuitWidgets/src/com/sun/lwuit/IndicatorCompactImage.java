@@ -0,0 +1,263 @@
+package com.sun.lwuit;
+
+import com.sun.lwuit.plaf.IndicatorMetrics;
+
+/**
+ * Image keeping its pixels in a compact format for low memory devices,
+ * either an indexed palette (up to 256 colors) or RGB565 with 1-bit alpha.
+ * The pixels are expanded into a shared ARGB buffer on each paint and drawn
+ * with drawRGB, which trades paint time for heap.
+ * <br><br>
+ * Indicator items usually use two or three colors plus alpha, so an item
+ * takes about a quarter of its ARGB size.
+ *
+ * @version 1.0
+ *
+ * @since LWUIT 1.4
+ *
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public class IndicatorCompactImage extends RGBImage {
+    /** Expansion buffer shared by every compact image, it only grows */
+    private static int[] sharedBuffer = new int[0];
+
+    private final int[] buffer;
+
+    /** Palette pixels, index into {@link #palette} */
+    private byte[] indices;
+
+    private int[] palette;
+
+    /** RGB565 pixels */
+    private short[] rgb565;
+
+    /** 1-bit alpha of the RGB565 pixels, 8 pixels per byte */
+    private byte[] alphaBits;
+
+    private final boolean opaqueImage;
+
+    private IndicatorCompactImage(int[] buffer, int width, int height, boolean opaqueImage) {
+        super(buffer, width, height);
+        this.buffer = buffer;
+        this.opaqueImage = opaqueImage;
+        setOpaque(opaqueImage);
+    }
+
+    /**
+     * Creates a compact image from the given image
+     *
+     * @param img the source image
+     * @return the compact image or null if the pixels don't fit a compact
+     *         format (more than 256 colors with partial alpha)
+     */
+    public static IndicatorCompactImage create(Image img) {
+        if (img instanceof IndicatorCompactImage) {
+            return (IndicatorCompactImage) img;
+        }
+        return create(img.getRGB(), img.getWidth(), img.getHeight());
+    }
+
+    /**
+     * Creates a compact image from ARGB pixels
+     *
+     * @param argb the pixels
+     * @param width the image width
+     * @param height the image height
+     * @return the compact image or null if the pixels don't fit a compact
+     *         format (more than 256 colors with partial alpha)
+     */
+    public static IndicatorCompactImage create(int[] argb, int width, int height) {
+        int length = width * height;
+        int[] colors = new int[256];
+        int count = 0;
+        boolean opaque = true;
+        boolean binaryAlpha = true;
+        for (int i = 0; i < length; i++) {
+            int p = argb[i];
+            int a = p >>> 24;
+            if (a != 0xff) {
+                opaque = false;
+                if (a != 0) {
+                    binaryAlpha = false;
+                }
+            }
+            if (count <= 256 && indexOf(colors, count, p) < 0) {
+                if (count < 256) {
+                    colors[count] = p;
+                }
+                count++;
+            }
+        }
+        IndicatorCompactImage img;
+        int compactBytes;
+        if (count <= 256) {
+            img = new IndicatorCompactImage(getBuffer(length), width, height, opaque);
+            img.palette = new int[count];
+            System.arraycopy(colors, 0, img.palette, 0, count);
+            img.indices = new byte[length];
+            for (int i = 0; i < length; i++) {
+                img.indices[i] = (byte) indexOf(img.palette, count, argb[i]);
+            }
+            compactBytes = length + count * 4;
+        } else if (binaryAlpha) {
+            img = new IndicatorCompactImage(getBuffer(length), width, height, opaque);
+            img.rgb565 = new short[length];
+            img.alphaBits = new byte[(length + 7) / 8];
+            for (int i = 0; i < length; i++) {
+                int p = argb[i];
+                img.rgb565[i] = (short) (((p >> 8) & 0xf800) | ((p >> 5) & 0x07e0) | ((p >> 3) & 0x001f));
+                if ((p >>> 24) != 0) {
+                    img.alphaBits[i >> 3] |= (byte) (1 << (i & 7));
+                }
+            }
+            compactBytes = length * 2 + img.alphaBits.length;
+        } else {
+            return null;
+        }
+        IndicatorMetrics.getInstance().compactImageCreated(length * 4, compactBytes);
+        return img;
+    }
+
+    /**
+     * Returns a skin with every image stored compact, images not fitting a
+     * compact format are kept as is
+     *
+     * @param images the skin images, might be null
+     * @return the compact skin
+     */
+    public static Image[] compact(Image[] images) {
+        if (images == null) {
+            return null;
+        }
+        Image[] result = new Image[images.length];
+        for (int i = 0; i < images.length; i++) {
+            result[i] = images[i];
+            if (images[i] != null) {
+                IndicatorCompactImage img = create(images[i]);
+                if (img != null) {
+                    result[i] = img;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the bytes taken by the pixels of the image
+     *
+     * @return the size of the compact pixels
+     */
+    public int getSizeInBytes() {
+        if (indices != null) {
+            return indices.length + palette.length * 4;
+        }
+        return rgb565.length * 2 + alphaBits.length;
+    }
+
+    /**
+     * Returns a new ARGB copy of the pixels, modifying it doesn't change the image
+     *
+     * @inheritDoc
+     */
+    public int[] getRGB() {
+        int[] argb = new int[getWidth() * getHeight()];
+        expand(argb);
+        return argb;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    public boolean isOpaque() {
+        return opaqueImage;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    protected void drawImage(Graphics g, Object nativeGraphics, int x, int y) {
+        expand(buffer);
+        super.drawImage(g, nativeGraphics, x, y);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    void getRGB(int[] rgbData, int offset, int x, int y, int width, int height) {
+        expand(buffer);
+        super.getRGB(rgbData, offset, x, y, width, height);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    public Image subImage(int x, int y, int width, int height, boolean processAlpha) {
+        expand(buffer);
+        return super.subImage(x, y, width, height, processAlpha);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    public Image scaled(int width, int height) {
+        expand(buffer);
+        return super.scaled(width, height);
+    }
+
+    /**
+     * Compact images are immutable, use {@link #scaled(int, int)} instead
+     */
+    public void scale(int width, int height) {
+        throw new IllegalStateException("Compact images can't be scaled in place");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    public Image rotate(int degrees) {
+        expand(buffer);
+        return super.rotate(degrees);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    public Image modifyAlpha(byte alpha) {
+        expand(buffer);
+        return super.modifyAlpha(alpha);
+    }
+
+    private void expand(int[] argb) {
+        int length = getWidth() * getHeight();
+        if (indices != null) {
+            for (int i = 0; i < length; i++) {
+                argb[i] = palette[indices[i] & 0xff];
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                int p = rgb565[i] & 0xffff;
+                int r = (p >> 11) & 0x1f;
+                int g = (p >> 5) & 0x3f;
+                int b = p & 0x1f;
+                int a = (alphaBits[i >> 3] & (1 << (i & 7))) != 0 ? 0xff000000 : 0;
+                argb[i] = a | (((r << 3) | (r >> 2)) << 16) | (((g << 2) | (g >> 4)) << 8) | ((b << 3) | (b >> 2));
+            }
+        }
+    }
+
+    private static synchronized int[] getBuffer(int length) {
+        if (sharedBuffer.length < length) {
+            sharedBuffer = new int[length];
+        }
+        return sharedBuffer;
+    }
+
+    private static int indexOf(int[] colors, int count, int color) {
+        for (int i = 0; i < count; i++) {
+            if (colors[i] == color) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
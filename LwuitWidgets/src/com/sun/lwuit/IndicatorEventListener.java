@@ -1,32 +1,53 @@
-package com.sun.lwuit;
-
-/**
- * Controls the Indicator navigation
- * 
- * @since LWUIT 1.4
- * 
- * @version 1.0
- * 
- * @author Vimal, vimal.lwuit@ymail.com
- */
-public interface IndicatorEventListener {
-    /**
-     * Move a position forward
-     */
-    public void next();
-    
-    /**
-     * Move a position back
-     */
-    public void previous();
-    
-    /**
-     * Move to first position
-     */
-    public void first();
-    
-    /**
-     * Move to last position
-     */
-    public void last();
-}
+package com.sun.lwuit;
+
+/**
+ * Controls the Indicator navigation
+ * 
+ * @since LWUIT 1.4
+ * 
+ * @version 1.0
+ * 
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public interface IndicatorEventListener {
+    /**
+     * Move a position forward
+     */
+    public void next();
+    
+    /**
+     * Move a position back
+     */
+    public void previous();
+    
+    /**
+     * Move to first position
+     */
+    public void first();
+    
+    /**
+     * Move to last position
+     */
+    public void last();
+    
+    /**
+     * Move to the given position, snapped to the quantum
+     * 
+     * @param position the position, clamped to the first and last position
+     */
+    public void goTo(int position);
+    
+    /**
+     * Move by whole timeline groups
+     * 
+     * @param delta the number of groups, negative to move back
+     */
+    public void jumpGroups(int delta);
+    
+    /**
+     * Set the position at once, without animating, snapped to the quantum
+     * 
+     * @param current the position, clamped to the first and last position
+     */
+    public void setCurrent(int current);
+}
@@ -0,0 +1,155 @@
+package com.sun.lwuit;
+
+import com.sun.lwuit.plaf.IndicatorMetrics;
+
+/**
+ * Keeps the paint time of an indicator within a frame budget by stepping its
+ * quality down while the device is under load (network I/O, form transitions)
+ * and back up when headroom returns.
+ * <br><br>
+ * The paint times are averaged over a rolling window, the quality is lowered
+ * one level when the average exceeds the budget and raised one level when the
+ * average is below half of it. Every level change is reported to
+ * {@link IndicatorMetrics}.
+ *
+ * @version 1.0
+ *
+ * @since LWUIT 1.4
+ *
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public class IndicatorFrameBudget {
+    /** Everything enabled */
+    public static final int QUALITY_FULL = 0;
+
+    /** Indicator animations disabled, state changes are shown at once */
+    public static final int QUALITY_NO_ANIMATION = 1;
+
+    /** Translucent images are no longer precomposed for new backgrounds, cached ones are used */
+    public static final int QUALITY_NO_PRECOMPOSE = 2;
+
+    /**
+     * The indicator is painted from one snapshot image drawn again only when its state changes,
+     * without alpha mutable images the cheapest renderer is used, the calibrated one or the display list
+     */
+    public static final int QUALITY_CHEAPEST_RENDERER = 3;
+
+    /** Default budget of an indicator paint in milliseconds */
+    public static final int DEFAULT_BUDGET = 8;
+
+    /** Default number of paints averaged */
+    public static final int DEFAULT_WINDOW = 16;
+
+    private final int budget;
+
+    private final int[] window;
+
+    private int count;
+
+    private int next;
+
+    private int total;
+
+    private int quality = QUALITY_FULL;
+
+    /** Renderer of the indicator before switching to the cheapest one */
+    private int savedRenderer = -1;
+
+    /**
+     * Creates a controller with the default budget and window
+     */
+    public IndicatorFrameBudget() {
+        this(DEFAULT_BUDGET, DEFAULT_WINDOW);
+    }
+
+    /**
+     * Creates a controller
+     *
+     * @param budget the budget of an indicator paint in milliseconds
+     * @param windowSize the number of paints averaged
+     */
+    public IndicatorFrameBudget(int budget, int windowSize) {
+        this.budget = Math.max(1, budget);
+        this.window = new int[Math.max(1, windowSize)];
+    }
+
+    /**
+     * Returns the budget of an indicator paint
+     *
+     * @return the budget in milliseconds
+     */
+    public int getBudget() {
+        return budget;
+    }
+
+    /**
+     * Returns the current quality level
+     *
+     * @return the quality level
+     *
+     * @see #QUALITY_FULL
+     * @see #QUALITY_NO_ANIMATION
+     * @see #QUALITY_NO_PRECOMPOSE
+     * @see #QUALITY_CHEAPEST_RENDERER
+     */
+    public int getQuality() {
+        return quality;
+    }
+
+    /**
+     * Invoked by the indicator after each paint
+     *
+     * @param in the painted indicator
+     * @param time the paint time in milliseconds
+     */
+    public void paintFinished(Indicator in, int time) {
+        total += time - (count == window.length ? window[next] : 0);
+        window[next] = time;
+        next = (next + 1) % window.length;
+        if (count < window.length) {
+            count++;
+            return;
+        }
+        int average = total / count;
+        if (average > budget && quality < QUALITY_CHEAPEST_RENDERER) {
+            setQuality(in, quality + 1);
+        } else if (average * 2 < budget && quality > QUALITY_FULL) {
+            setQuality(in, quality - 1);
+        }
+    }
+
+    /**
+     * Restores the full quality, e.g. when the controller is detached
+     *
+     * @param in the controlled indicator
+     */
+    public void restore(Indicator in) {
+        while (quality > QUALITY_FULL) {
+            setQuality(in, quality - 1);
+        }
+    }
+
+    private void setQuality(Indicator in, int newQuality) {
+        int oldQuality = quality;
+        quality = newQuality;
+        //Measure the new level over a full window
+        count = 0;
+        next = 0;
+        total = 0;
+        if (newQuality == QUALITY_CHEAPEST_RENDERER) {
+            int renderer = in.getRenderer();
+            int cheapest = IndicatorCalibration.getRenderer();
+            if (!Image.isAlphaMutableImageSupported() || renderer == Indicator.RENDERER_DIRECT) {
+                //No snapshot for the direct renderer, it records on every paint
+                savedRenderer = renderer;
+                in.applyRenderer(cheapest > 0 ? cheapest : Indicator.RENDERER_DISPLAY_LIST);
+            }
+        } else if (oldQuality == QUALITY_CHEAPEST_RENDERER && savedRenderer > 0) {
+            in.applyRenderer(savedRenderer);
+            savedRenderer = -1;
+        }
+        //Record again, the underlay is left out of the lower qualities
+        in.getDisplayList().invalidate();
+        IndicatorMetrics.getInstance().qualityChanged(oldQuality, newQuality);
+    }
+}
@@ -0,0 +1,162 @@
+package com.sun.lwuit;
+
+/**
+ * Measures the latency from a navigation call (key or pointer input) to the
+ * repaint request and to the paint showing the new state of an indicator, so
+ * the renderers can be compared on real devices.
+ * <br><br>
+ * The latencies are kept in preallocated ring buffers of the last samples,
+ * tracing and reading the percentiles allocate nothing. Navigation calls
+ * made before the previous state was painted are measured from the earliest
+ * one, as that is the wait the user sees.
+ * <pre>
+ *     IndicatorLatencyTrace trace = new IndicatorLatencyTrace(IndicatorLatencyTrace.DEFAULT_CAPACITY);
+ *     indicator.setLatencyTrace(trace);
+ *     ...
+ *     System.out.println(trace);
+ * </pre>
+ * 
+ * @version 1.0
+ * 
+ * @since LWUIT 1.4
+ * 
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public class IndicatorLatencyTrace {
+    /** Default number of samples kept */
+    public static final int DEFAULT_CAPACITY = 128;
+    
+    /** Latency from the navigation call to the repaint request */
+    public static final int INPUT_TO_REPAINT = 0;
+    
+    /** Latency from the navigation call to the end of the paint showing it */
+    public static final int INPUT_TO_FRAME = 1;
+    
+    /** Latencies {input to repaint, input to frame} in milliseconds */
+    private final int[][] samples;
+    
+    /** Scratch array sorted to read the percentiles */
+    private final int[] sorted;
+    
+    private int count = 0;
+    
+    private int next = 0;
+    
+    /** Time of the earliest navigation not painted yet, -1 if none */
+    private long inputTime = -1;
+    
+    private long repaintTime = -1;
+    
+    /**
+     * Creates a trace
+     * 
+     * @param capacity the number of samples kept
+     */
+    public IndicatorLatencyTrace(int capacity) {
+        capacity = Math.max(1, capacity);
+        samples = new int[2][capacity];
+        sorted = new int[capacity];
+    }
+    
+    /**
+     * Invoked on entry of every navigation call, from whichever thread makes it,
+     * the earliest call is kept until the frame is painted
+     */
+    public synchronized void inputReceived() {
+        if(inputTime < 0) {
+            inputTime = System.currentTimeMillis();
+        }
+    }
+    
+    /**
+     * Invoked when a navigation call left the state unchanged
+     */
+    public synchronized void inputIgnored() {
+        if(repaintTime < 0) {
+            inputTime = -1;
+        }
+    }
+    
+    /**
+     * Invoked when the repaint of a navigation is requested
+     */
+    public synchronized void repaintRequested() {
+        if(inputTime >= 0 && repaintTime < 0) {
+            repaintTime = System.currentTimeMillis();
+        }
+    }
+    
+    /**
+     * Invoked when the paint of the indicator completed
+     */
+    public synchronized void framePainted() {
+        if(inputTime < 0 || repaintTime < 0) {
+            //Nothing requested, e.g. a paint of the form
+            return;
+        }
+        long now = System.currentTimeMillis();
+        samples[INPUT_TO_REPAINT][next] = (int) (repaintTime - inputTime);
+        samples[INPUT_TO_FRAME][next] = (int) (now - inputTime);
+        next = (next + 1) % sorted.length;
+        count = Math.min(sorted.length, count + 1);
+        inputTime = -1;
+        repaintTime = -1;
+    }
+    
+    /**
+     * Returns the number of samples kept
+     * 
+     * @return the number of measured navigations, up to the capacity
+     */
+    public synchronized int getCount() {
+        return count;
+    }
+    
+    /**
+     * Returns a percentile of the kept samples
+     * 
+     * @param latency {@link #INPUT_TO_REPAINT} or {@link #INPUT_TO_FRAME}
+     * @param percentile the percentile from 0 to 100, e.g. 50, 95 or 99
+     * @return the latency in milliseconds or -1 if there are no samples
+     */
+    public synchronized int getPercentile(int latency, int percentile) {
+        if(count == 0) {
+            return -1;
+        }
+        System.arraycopy(samples[latency], 0, sorted, 0, count);
+        //Insertion sort, the buffer is small
+        for(int i = 1; i < count; i++) {
+            int value = sorted[i];
+            int j = i - 1;
+            while(j >= 0 && sorted[j] > value) {
+                sorted[j + 1] = sorted[j];
+                j--;
+            }
+            sorted[j + 1] = value;
+        }
+        //Nearest rank
+        int rank = (Math.max(0, Math.min(100, percentile)) * count + 99) / 100;
+        return sorted[Math.max(0, rank - 1)];
+    }
+    
+    /**
+     * Drops every sample
+     */
+    public synchronized void reset() {
+        count = 0;
+        next = 0;
+        inputTime = -1;
+        repaintTime = -1;
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    public String toString() {
+        return "samples = " + getCount() 
+                + ", inputToRepaint p50/p95/p99 = " + getPercentile(INPUT_TO_REPAINT, 50) + "/" 
+                + getPercentile(INPUT_TO_REPAINT, 95) + "/" + getPercentile(INPUT_TO_REPAINT, 99) + "ms"
+                + ", inputToFrame p50/p95/p99 = " + getPercentile(INPUT_TO_FRAME, 50) + "/" 
+                + getPercentile(INPUT_TO_FRAME, 95) + "/" + getPercentile(INPUT_TO_FRAME, 99) + "ms";
+    }
+}
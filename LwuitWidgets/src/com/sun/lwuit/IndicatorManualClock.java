@@ -0,0 +1,49 @@
+package com.sun.lwuit;
+
+/**
+ * Clock moving only when told to, making the timing of the widgets 
+ * deterministic, see {@link IndicatorReplayer}.
+ * 
+ * @version 1.0
+ * 
+ * @since LWUIT 1.4
+ * 
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public class IndicatorManualClock extends IndicatorClock {
+    private long time;
+    
+    /**
+     * Creates a clock
+     * 
+     * @param time the start time in milliseconds
+     */
+    public IndicatorManualClock(long time) {
+        this.time = time;
+    }
+    
+    /**
+     * Sets the current time
+     * 
+     * @param time the time in milliseconds
+     */
+    public synchronized void setTime(long time) {
+        this.time = time;
+    }
+    
+    /**
+     * Moves the clock forward
+     * 
+     * @param millis the milliseconds to advance
+     */
+    public synchronized void advance(long millis) {
+        time += millis;
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    public synchronized long currentTimeMillis() {
+        return time;
+    }
+}
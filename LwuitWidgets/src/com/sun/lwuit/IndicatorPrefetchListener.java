@@ -0,0 +1,38 @@
+package com.sun.lwuit;
+
+/**
+ * Told by an {@link IndicatorPrefetchPolicy} which positions to load ahead
+ * and which to release. The ranges are inclusive, in indicator positions.
+ * 
+ * @since LWUIT 1.4
+ * 
+ * @version 1.0
+ * 
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public interface IndicatorPrefetchListener {
+    /**
+     * Start loading the content of the positions
+     * 
+     * @param from the first position
+     * @param to the last position
+     */
+    public void warm(int from, int to);
+    
+    /**
+     * Release the loaded content of the positions
+     * 
+     * @param from the first position
+     * @param to the last position
+     */
+    public void evict(int from, int to);
+    
+    /**
+     * Cancel the loading of the positions if it still runs and release their content, 
+     * the positions were requested recently and left before they were reached
+     * 
+     * @param from the first position
+     * @param to the last position
+     */
+    public void cancel(int from, int to);
+}
@@ -0,0 +1,235 @@
+package com.sun.lwuit;
+
+/**
+ * Tells an {@link IndicatorPrefetchListener} which neighbouring positions of
+ * an indicator to load ahead, e.g. the pages around the current page of a
+ * paginated view, as the current position changes.
+ * <br><br>
+ * The window keeps a number of steps (of the quantum) loaded on both sides
+ * of the current position. While the user moves quickly the window is biased
+ * in the direction of the move, by the steps the user covers in the bias time
+ * at the recent velocity. Positions leaving the window are evicted, or
+ * cancelled if they belong to one of the last two ranges requested (a change
+ * can warm both sides of the window) within the stale time, as their loading
+ * is likely still running.
+ * <br><br>
+ * The policy follows an indicator as a change listener:
+ * <pre>
+ *     indicator.addChangeListener(new IndicatorPrefetchPolicy(loader, 2));
+ * </pre>
+ * 
+ * @version 1.0
+ * 
+ * @since LWUIT 1.4
+ * 
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public class IndicatorPrefetchPolicy implements IndicatorChangeListener {
+    /** Default time in milliseconds the velocity is projected ahead */
+    public static final int DEFAULT_BIAS_TIME = 500;
+    
+    /** Default time in milliseconds the last requested positions are cancelled rather than evicted */
+    public static final int DEFAULT_STALE_TIME = 500;
+    
+    /** Time in milliseconds without changes after which the velocity is dropped */
+    private static final int IDLE_TIME = 1000;
+    
+    private final IndicatorPrefetchListener listener;
+    
+    private final int window;
+    
+    private int biasTime = DEFAULT_BIAS_TIME;
+    
+    private int staleTime = DEFAULT_STALE_TIME;
+    
+    /** Warmed positions, inclusive, empty if warmedTo < warmedFrom */
+    private int warmedFrom = 0;
+    
+    private int warmedTo = -1;
+    
+    /** Number of recent warm requests whose positions are cancelled rather than evicted */
+    private static final int REQUESTS = 2;
+    
+    /** Ranges of the recent warm requests, inclusive, and their times, the newest first */
+    private final int[] requestedFrom = new int[REQUESTS];
+    
+    private final int[] requestedTo = new int[REQUESTS];
+    
+    private final long[] requestedTime = new long[REQUESTS];
+    
+    /** Recent velocity in steps per second, signed */
+    private int velocity;
+    
+    private long lastChange;
+    
+    /**
+     * Creates a policy
+     * 
+     * @param listener the listener loading and releasing the content
+     * @param window the number of steps kept loaded on both sides of the current position
+     */
+    public IndicatorPrefetchPolicy(IndicatorPrefetchListener listener, int window) {
+        this.listener = listener;
+        this.window = Math.max(0, window);
+        clearRequests();
+    }
+    
+    /**
+     * Returns the number of steps kept loaded on both sides of the current position
+     * 
+     * @return the window
+     */
+    public int getWindow() {
+        return window;
+    }
+    
+    /**
+     * Sets how far ahead the recent velocity is projected to bias the window
+     * 
+     * @param biasTime the time in milliseconds, 0 for a window without bias
+     */
+    public void setBiasTime(int biasTime) {
+        this.biasTime = Math.max(0, biasTime);
+    }
+    
+    /**
+     * Returns how far ahead the recent velocity is projected
+     * 
+     * @return the time in milliseconds
+     */
+    public int getBiasTime() {
+        return biasTime;
+    }
+    
+    /**
+     * Sets the time within which the positions of the last requests leaving the window are cancelled rather than evicted
+     * 
+     * @param staleTime the time in milliseconds
+     */
+    public void setStaleTime(int staleTime) {
+        this.staleTime = Math.max(0, staleTime);
+    }
+    
+    /**
+     * Returns the time within which the positions of the last requests leaving the window are cancelled
+     * 
+     * @return the time in milliseconds
+     */
+    public int getStaleTime() {
+        return staleTime;
+    }
+    
+    /**
+     * Releases every warmed position, e.g. when the content is replaced
+     */
+    public synchronized void reset() {
+        release(warmedFrom, warmedTo, IndicatorClock.getInstance().currentTimeMillis());
+        warmedFrom = 0;
+        warmedTo = -1;
+        velocity = 0;
+        clearRequests();
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    public synchronized void currentChanged(Indicator source, int oldCurrent, int newCurrent, int total) {
+        long now = IndicatorClock.getInstance().currentTimeMillis();
+        int step = Math.max(1, source.getQuantum());
+        long elapsed = now - lastChange;
+        lastChange = now;
+        if(oldCurrent < 0 || elapsed >= IDLE_TIME) {
+            velocity = 0;
+        } else {
+            //Average with the previous velocity to smooth the key repeats
+            int steps = (newCurrent - oldCurrent) / step;
+            velocity = (velocity + (int) (steps * 1000 / Math.max(1, elapsed))) / 2;
+        }
+        
+        int bias = Math.min(window, Math.abs(velocity) * biasTime / 1000);
+        int ahead = window + bias;
+        int behind = window - bias;
+        if(velocity < 0) {
+            ahead = behind;
+            behind = window + bias;
+        }
+        int from = Math.max(0, newCurrent - behind * step);
+        int to = Math.min(total - 1, newCurrent + ahead * step + step - 1);
+        if(newCurrent < 0 || total <= 0) {
+            from = 0;
+            to = -1;
+        }
+        
+        //Release the positions left, before loading the new ones
+        if(to < from || warmedTo < from || warmedFrom > to) {
+            release(warmedFrom, warmedTo, now);
+        } else {
+            release(warmedFrom, from - 1, now);
+            release(to + 1, warmedTo, now);
+        }
+        if(to >= from) {
+            if(warmedTo < warmedFrom || warmedTo < from || warmedFrom > to) {
+                warm(from, to, now);
+            } else {
+                if(from < warmedFrom) {
+                    warm(from, warmedFrom - 1, now);
+                }
+                if(to > warmedTo) {
+                    warm(warmedTo + 1, to, now);
+                }
+            }
+        }
+        warmedFrom = from;
+        warmedTo = to;
+    }
+    
+    private void warm(int from, int to, long now) {
+        listener.warm(from, to);
+        for(int i = REQUESTS - 1; i > 0; i--) {
+            requestedFrom[i] = requestedFrom[i - 1];
+            requestedTo[i] = requestedTo[i - 1];
+            requestedTime[i] = requestedTime[i - 1];
+        }
+        requestedFrom[0] = from;
+        requestedTo[0] = to;
+        requestedTime[0] = now;
+    }
+    
+    private void clearRequests() {
+        for(int i = 0; i < REQUESTS; i++) {
+            requestedFrom[i] = 0;
+            requestedTo[i] = -1;
+        }
+    }
+    
+    /**
+     * Cancels the positions of the recent requests, evicts the others
+     */
+    private void release(int from, int to, long now) {
+        while(from <= to) {
+            //First part of the range still requested, if any
+            int cancelFrom = to + 1;
+            int cancelTo = to;
+            for(int i = 0; i < REQUESTS; i++) {
+                if(now - requestedTime[i] >= staleTime) {
+                    continue;
+                }
+                int f = Math.max(from, requestedFrom[i]);
+                int t = Math.min(to, requestedTo[i]);
+                if(f <= t && f < cancelFrom) {
+                    cancelFrom = f;
+                    cancelTo = t;
+                }
+            }
+            if(cancelFrom > to) {
+                listener.evict(from, to);
+                return;
+            }
+            if(from < cancelFrom) {
+                listener.evict(from, cancelFrom - 1);
+            }
+            listener.cancel(cancelFrom, cancelTo);
+            from = cancelTo + 1;
+        }
+    }
+}
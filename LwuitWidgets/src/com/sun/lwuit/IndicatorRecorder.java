@@ -0,0 +1,189 @@
+package com.sun.lwuit;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Records the navigation calls and setter changes of an indicator with their
+ * times, so a session seen in the field can be replayed by an
+ * {@link IndicatorReplayer}.
+ * <br><br>
+ * The log is a flat int array of {call, argument, time} entries, the time in
+ * milliseconds since the first entry; it can be written to and read from a
+ * stream, e.g. the LWUIT IO Storage. The state of the indicator is logged
+ * first as setter calls when the recorder is attached.
+ * <pre>
+ *     IndicatorRecorder recorder = new IndicatorRecorder();
+ *     indicator.setRecorder(recorder);
+ *     ...
+ *     recorder.write(new DataOutputStream(Storage.getInstance().createOutputStream("session")));
+ * </pre>
+ * 
+ * @version 1.0
+ * 
+ * @since LWUIT 1.4
+ * 
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public class IndicatorRecorder {
+    /** next() */
+    public static final int NEXT = 1;
+    
+    /** previous() */
+    public static final int PREVIOUS = 2;
+    
+    /** first() */
+    public static final int FIRST = 3;
+    
+    /** last() */
+    public static final int LAST = 4;
+    
+    /** goTo(position) */
+    public static final int GO_TO = 5;
+    
+    /** jumpGroups(delta) */
+    public static final int JUMP_GROUPS = 6;
+    
+    /** setCurrent(current) */
+    public static final int SET_CURRENT = 7;
+    
+    /** setTotal(total) */
+    public static final int SET_TOTAL = 8;
+    
+    /** setQuantum(quantum) */
+    public static final int SET_QUANTUM = 9;
+    
+    /** setMaxTimelineItems(maxTimelineItems) */
+    public static final int SET_MAX_TIMELINE_ITEMS = 10;
+    
+    /** setOrientation(orientation) */
+    public static final int SET_ORIENTATION = 11;
+    
+    /** setRenderer(renderer) */
+    public static final int SET_RENDERER = 12;
+    
+    /** setAnimationDuration(animationDuration) */
+    public static final int SET_ANIMATION_DURATION = 13;
+    
+    /** setMaxRepaintRate(maxRepaintRate) */
+    public static final int SET_MAX_REPAINT_RATE = 14;
+    
+    private static final int VERSION = 1;
+    
+    /** Entries {call, argument, time} */
+    private int[] entries = new int[3 * 64];
+    
+    private int count = 0;
+    
+    private long startTime = -1;
+    
+    /**
+     * Records a call, invoked by the indicator
+     * 
+     * @param call the recorded call
+     * @param argument the argument of the call, 0 if none
+     */
+    public synchronized void record(int call, int argument) {
+        long now = IndicatorClock.getInstance().currentTimeMillis();
+        if(startTime < 0) {
+            startTime = now;
+        }
+        if((count + 1) * 3 > entries.length) {
+            int[] grown = new int[entries.length * 2];
+            System.arraycopy(entries, 0, grown, 0, count * 3);
+            entries = grown;
+        }
+        entries[count * 3] = call;
+        entries[count * 3 + 1] = argument;
+        entries[count * 3 + 2] = (int) (now - startTime);
+        count++;
+    }
+    
+    /**
+     * Returns the number of recorded calls
+     * 
+     * @return the number of entries
+     */
+    public synchronized int getCount() {
+        return count;
+    }
+    
+    /**
+     * Returns a recorded call
+     * 
+     * @param index the index of the entry
+     * @return the call
+     */
+    public synchronized int getCall(int index) {
+        return entries[index * 3];
+    }
+    
+    /**
+     * Returns the argument of a recorded call
+     * 
+     * @param index the index of the entry
+     * @return the argument
+     */
+    public synchronized int getArgument(int index) {
+        return entries[index * 3 + 1];
+    }
+    
+    /**
+     * Returns the time of a recorded call
+     * 
+     * @param index the index of the entry
+     * @return the time in milliseconds since the first entry
+     */
+    public synchronized int getTime(int index) {
+        return entries[index * 3 + 2];
+    }
+    
+    /**
+     * Drops the recorded calls
+     */
+    public synchronized void clear() {
+        count = 0;
+        startTime = -1;
+    }
+    
+    /**
+     * Writes the log
+     * 
+     * @param out the stream to write to
+     * @throws IOException if writing fails
+     */
+    public synchronized void write(DataOutputStream out) throws IOException {
+        out.writeInt(VERSION);
+        out.writeInt(count);
+        for(int i = 0; i < count * 3; i += 3) {
+            out.writeByte(entries[i]);
+            out.writeInt(entries[i + 1]);
+            out.writeInt(entries[i + 2]);
+        }
+        out.flush();
+    }
+    
+    /**
+     * Reads a log written by {@link #write(DataOutputStream)}
+     * 
+     * @param in the stream to read from
+     * @return the recorder holding the log
+     * @throws IOException if reading fails or the log has an unknown version
+     */
+    public static IndicatorRecorder read(DataInputStream in) throws IOException {
+        if(in.readInt() != VERSION) {
+            throw new IOException("Unknown indicator log version");
+        }
+        int count = in.readInt();
+        IndicatorRecorder recorder = new IndicatorRecorder();
+        recorder.entries = new int[Math.max(3, count * 3)];
+        for(int i = 0; i < count * 3; i += 3) {
+            recorder.entries[i] = in.readByte();
+            recorder.entries[i + 1] = in.readInt();
+            recorder.entries[i + 2] = in.readInt();
+        }
+        recorder.count = count;
+        return recorder;
+    }
+}
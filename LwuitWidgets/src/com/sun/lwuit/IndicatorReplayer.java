@@ -0,0 +1,254 @@
+package com.sun.lwuit;
+
+import com.sun.lwuit.geom.Dimension;
+import com.sun.lwuit.plaf.IndicatorLookAndFeel;
+import com.sun.lwuit.plaf.UIManager;
+
+/**
+ * Replays a navigation session recorded by an {@link IndicatorRecorder} on an
+ * indicator against an {@link IndicatorManualClock}, so the session runs the
+ * same on every run: as a repeatable benchmark or to check the animation timing.
+ * <br><br>
+ * The clock is advanced from call to call in frame steps, the animations of
+ * the indicator are ticked on each frame and the frames asked for are painted
+ * offscreen when painting is enabled. Replays don't need the indicator to be
+ * shown and run as fast as the device allows, no waiting between the calls.
+ * Must be invoked on the EDT.
+ * 
+ * @version 1.0
+ * 
+ * @since LWUIT 1.4
+ * 
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public class IndicatorReplayer {
+    /** Default frame step in milliseconds */
+    public static final int DEFAULT_FRAME_TIME = 20;
+    
+    /** Longest time in milliseconds the replay waits for the animations after the last call */
+    private static final int SETTLE_TIME = 5000;
+    
+    private final IndicatorRecorder log;
+    
+    private final Indicator indicator;
+    
+    private final int frameTime;
+    
+    private boolean paintFrames = false;
+    
+    private Image offscreen;
+    
+    private Graphics offscreenGraphics;
+    
+    private int frames;
+    
+    private int paintedFrames;
+    
+    private long paintTime;
+    
+    private long replayTime;
+    
+    /**
+     * Creates a replayer
+     * 
+     * @param log the recorded session
+     * @param indicator the indicator to drive
+     * @param frameTime the frame step in milliseconds
+     */
+    public IndicatorReplayer(IndicatorRecorder log, Indicator indicator, int frameTime) {
+        this.log = log;
+        this.indicator = indicator;
+        this.frameTime = Math.max(1, frameTime);
+    }
+    
+    /**
+     * Paints the frames asked for by the indicator offscreen, to time the rendering.
+     * Otherwise the indicator is only recorded, as needed to slide.
+     * 
+     * @param paintFrames true to paint the frames
+     */
+    public void setPaintFrames(boolean paintFrames) {
+        this.paintFrames = paintFrames;
+    }
+    
+    /**
+     * Replays the session, the clock of the widgets is restored afterwards.
+     * The state logged when the recording started is applied first. The 
+     * indicator doesn't have to be shown, one outside of a form takes its
+     * preferred size and slides all the same.
+     */
+    public void run() {
+        frames = 0;
+        paintedFrames = 0;
+        paintTime = 0;
+        IndicatorLookAndFeel laf = (IndicatorLookAndFeel) UIManager.getInstance().getLookAndFeel();
+        IndicatorClock previousClock = IndicatorClock.getInstance();
+        IndicatorManualClock clock = new IndicatorManualClock(0);
+        IndicatorClock.setInstance(clock);
+        //Ticked below and not recorded again, the pacing restarts from the manual clock
+        indicator.setReplayed(true);
+        long start = System.currentTimeMillis();
+        try {
+            long time = 0;
+            int count = log.getCount();
+            frame(laf);
+            for (int i = 0; i < count; i++) {
+                time = runFrames(clock, time, log.getTime(i), laf);
+                clock.setTime(log.getTime(i));
+                apply(log.getCall(i), log.getArgument(i));
+                frame(laf);
+            }
+            //Let the last animations finish
+            long end = time + SETTLE_TIME;
+            while (indicator.isAnimating() && time < end) {
+                time = runFrames(clock, time, time + frameTime, laf);
+            }
+        } finally {
+            //Restored first, the pacing restarts from the clock of the widgets
+            IndicatorClock.setInstance(previousClock);
+            indicator.setReplayed(false);
+            offscreen = null;
+            offscreenGraphics = null;
+        }
+        replayTime = System.currentTimeMillis() - start;
+    }
+    
+    /**
+     * Returns the number of frames the animations of the indicator were ticked
+     * 
+     * @return the ticked frames
+     */
+    public int getFrames() {
+        return frames;
+    }
+    
+    /**
+     * Returns the number of frames painted
+     * 
+     * @return the painted frames
+     */
+    public int getPaintedFrames() {
+        return paintedFrames;
+    }
+    
+    /**
+     * Returns the time spent painting
+     * 
+     * @return the paint time in milliseconds
+     */
+    public long getPaintTime() {
+        return paintTime;
+    }
+    
+    /**
+     * Returns the real time the replay took
+     * 
+     * @return the replay time in milliseconds
+     */
+    public long getReplayTime() {
+        return replayTime;
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    public String toString() {
+        return "calls = " + log.getCount() + ", frames = " + frames + ", paintedFrames = " + paintedFrames 
+                + ", paintTime = " + paintTime + "ms, replayTime = " + replayTime + "ms";
+    }
+    
+    /**
+     * Advances the clock frame by frame up to the given time, ticking the animations
+     * 
+     * @return the time reached
+     */
+    private long runFrames(IndicatorManualClock clock, long time, long until, IndicatorLookAndFeel laf) {
+        while (time + frameTime <= until) {
+            time += frameTime;
+            if (!indicator.isAnimating()) {
+                //Nothing moves until the next call
+                time = until - (until - time) % frameTime;
+                continue;
+            }
+            clock.setTime(time);
+            frames++;
+            if (indicator.tick(time)) {
+                frame(laf);
+            }
+        }
+        return time;
+    }
+    
+    /**
+     * Paints the indicator offscreen, or only records it when the frames are not painted
+     */
+    private void frame(IndicatorLookAndFeel laf) {
+        if (indicator.getParent() == null) {
+            //Not laid out by a form
+            Dimension d = indicator.getPreferredSize();
+            if (d.getWidth() != indicator.getWidth() || d.getHeight() != indicator.getHeight()) {
+                indicator.setSize(d);
+            }
+        }
+        if (!paintFrames) {
+            laf.prepareIndicator(indicator);
+            return;
+        }
+        if (offscreen == null || offscreen.getWidth() < indicator.getWidth() || offscreen.getHeight() < indicator.getHeight()) {
+            offscreen = Image.createImage(Math.max(1, indicator.getWidth()), Math.max(1, indicator.getHeight()));
+            offscreenGraphics = offscreen.getGraphics();
+            offscreenGraphics.translate(-indicator.getX(), -indicator.getY());
+        }
+        long start = System.currentTimeMillis();
+        laf.drawIndicator(offscreenGraphics, indicator);
+        paintTime += System.currentTimeMillis() - start;
+        paintedFrames++;
+    }
+    
+    private void apply(int call, int argument) {
+        switch (call) {
+            case IndicatorRecorder.NEXT:
+                indicator.next();
+                break;
+            case IndicatorRecorder.PREVIOUS:
+                indicator.previous();
+                break;
+            case IndicatorRecorder.FIRST:
+                indicator.first();
+                break;
+            case IndicatorRecorder.LAST:
+                indicator.last();
+                break;
+            case IndicatorRecorder.GO_TO:
+                indicator.goTo(argument);
+                break;
+            case IndicatorRecorder.JUMP_GROUPS:
+                indicator.jumpGroups(argument);
+                break;
+            case IndicatorRecorder.SET_CURRENT:
+                indicator.setCurrent(argument);
+                break;
+            case IndicatorRecorder.SET_TOTAL:
+                indicator.setTotal(argument);
+                break;
+            case IndicatorRecorder.SET_QUANTUM:
+                indicator.setQuantum(argument);
+                break;
+            case IndicatorRecorder.SET_MAX_TIMELINE_ITEMS:
+                indicator.setMaxTimelineItems(argument);
+                break;
+            case IndicatorRecorder.SET_ORIENTATION:
+                indicator.setOrientation(argument);
+                break;
+            case IndicatorRecorder.SET_RENDERER:
+                indicator.setRenderer(argument);
+                break;
+            case IndicatorRecorder.SET_ANIMATION_DURATION:
+                indicator.setAnimationDuration(argument);
+                break;
+            case IndicatorRecorder.SET_MAX_REPAINT_RATE:
+                indicator.setMaxRepaintRate(argument);
+                break;
+        }
+    }
+}
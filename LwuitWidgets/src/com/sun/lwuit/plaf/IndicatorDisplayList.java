@@ -0,0 +1,736 @@
+package com.sun.lwuit.plaf;
+
+import com.sun.lwuit.Graphics;
+import com.sun.lwuit.Image;
+import com.sun.lwuit.Indicator;
+
+/**
+ * Compact list of the drawing commands of an indicator widget.
+ * <br><br>
+ * The look and feel records the images and shapes of the indicator into this
+ * list whenever the layout or the state of the component changes, on every
+ * other paint the list is simply replayed. Commands are kept in a single
+ * primitive array so a list for a 20 items indicator is a few hundred bytes.
+ * <br><br>
+ * Coordinates are recorded relative to the component origin, so moving the
+ * component (e.g. scrolling) does not invalidate the list.
+ * <br><br>
+ * For right to left components the list is recorded horizontally mirrored,
+ * so the mirroring costs one recording and nothing at paint time.
+ * <br><br>
+ * The commands of the highlighted (undimmed) item are marked, so the item can
+ * slide from its previous position without recording again on each frame,
+ * the dimmed item below it is recorded as an underlay painted only meanwhile.
+ * <br><br>
+ * The recording also builds the hit table of the items and navigations, 
+ * sorted along the indicator and searched by binary search on pointer events.
+ * The table is kept across recordings and sorted again only if an area 
+ * changed, not when only the highlighted item moved.
+ *
+ * @version 1.0
+ *
+ * @since LWUIT 1.4
+ *
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public class IndicatorDisplayList {
+    /** Sets the current color: {OP_COLOR, rgb} */
+    public static final int OP_COLOR = 1;
+
+    /** Draws an image of the images array: {OP_IMAGE, index, x, y} */
+    public static final int OP_IMAGE = 2;
+
+    /** Fills a triangle: {OP_FILL_TRIANGLE, x1, y1, x2, y2, x3, y3} */
+    public static final int OP_FILL_TRIANGLE = 3;
+
+    /** Fills a round rectangle: {OP_FILL_ROUND_RECT, x, y, w, h, arcW, arcH} */
+    public static final int OP_FILL_ROUND_RECT = 4;
+
+    /** Draws a round rectangle: {OP_DRAW_ROUND_RECT, x, y, w, h, arcW, arcH} */
+    public static final int OP_DRAW_ROUND_RECT = 5;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] ops = new int[INITIAL_CAPACITY];
+
+    private int size = 0;
+
+    /** Commands of the previous recording, kept to find what changed */
+    private int[] previousOps = new int[INITIAL_CAPACITY];
+
+    private int previousSize = -1;
+
+    private boolean recorded = false;
+
+    private int originX;
+
+    private int originY;
+
+    private boolean valid = false;
+
+    private int keyWidth = -1;
+
+    private int keyHeight = -1;
+
+    private Object keyImages = null;
+
+    private boolean mirrored = false;
+
+    private int color;
+
+    private boolean hasColor = false;
+
+    /** Commands of the highlighted item, [highlightStart, highlightEnd) */
+    private int highlightStart = -1;
+
+    private int highlightEnd = -1;
+
+    /** Commands painted below the highlighted item while it slides */
+    private int underlayStart = -1;
+
+    private int underlayEnd = -1;
+
+    /** Position of the highlighted item relative to the origin */
+    private int highlightX;
+
+    private int highlightY;
+
+    /** Progress of the highlight slide, {@link #MOTION_DONE} when not sliding */
+    private int motionProgress = MOTION_DONE;
+
+    private int motionFromX;
+
+    private int motionFromY;
+
+    /** Hit areas {x1, y1, x2, y2, id} relative to the origin, in recording order */
+    private int[] hitAreas = new int[5 * 8];
+
+    private int hitCount = 0;
+
+    /** Indices of the hit areas sorted along the longer axis of the indicator */
+    private int[] hitOrder = new int[8];
+
+    /** Number of hit areas sorted, -1 if an area changed since */
+    private int hitSortedCount = -1;
+
+    private boolean hitVertical = false;
+
+    /** Whole recording painted into one image, used at the lowest quality */
+    private Image snapshot = null;
+
+    private boolean snapshotValid = false;
+
+    /** Progress of a finished highlight slide */
+    public static final int MOTION_DONE = 256;
+
+    /**
+     * Marks the list as stale, it will be recorded again on next paint
+     */
+    public void invalidate() {
+        valid = false;
+        snapshotValid = false;
+    }
+
+    /**
+     * Returns true if the list can be replayed for a component of the given
+     * dimension painted with the given images
+     *
+     * @param width the width of the component
+     * @param height the height of the component
+     * @param images the images used for painting, might be null
+     * @param mirrored true if the component is painted right to left
+     * @return true if the recorded commands are still valid
+     */
+    public boolean isValid(int width, int height, Image[] images, boolean mirrored) {
+        return valid && keyWidth == width && keyHeight == height && keyImages == images
+                && this.mirrored == mirrored;
+    }
+
+    /**
+     * Clears the list and starts a new recording
+     *
+     * @param x the absolute x position of the component
+     * @param y the absolute y position of the component
+     * @param width the width of the component
+     * @param height the height of the component
+     * @param images the images used for painting, might be null
+     * @param mirrored true to mirror horizontally the recorded commands
+     */
+    public void reset(int x, int y, int width, int height, Image[] images, boolean mirrored) {
+        //Keep the previous recording, comparable only if made for the same dimension and images
+        int[] tmp = previousOps;
+        previousOps = ops;
+        ops = tmp;
+        previousSize = recorded && keyWidth == width && keyHeight == height 
+                && keyImages == images && this.mirrored == mirrored ? size : -1;
+        recorded = true;
+        size = 0;
+        originX = x;
+        originY = y;
+        keyWidth = width;
+        keyHeight = height;
+        keyImages = images;
+        this.mirrored = mirrored;
+        hasColor = false;
+        highlightStart = highlightEnd = -1;
+        underlayStart = underlayEnd = -1;
+        //The areas are compared with the previous recording as they are added
+        hitCount = 0;
+        snapshotValid = false;
+        valid = true;
+    }
+
+    /**
+     * Returns true if the list was recorded at least once
+     *
+     * @return true if the list was recorded
+     */
+    public boolean isRecorded() {
+        return recorded;
+    }
+
+    /**
+     * Computes the bounds, relative to the component origin, of the commands 
+     * which differ between the previous and the current recording.
+     *
+     * @param images the images referenced by the {@link #OP_IMAGE} commands
+     * @param bounds array receiving {x1, y1, x2, y2}, empty if nothing changed
+     * @return false if the recordings cannot be compared and the whole component should be repainted
+     */
+    public boolean getChangedBounds(Image[] images, int[] bounds) {
+        if (previousSize != size) {
+            return false;
+        }
+        bounds[0] = bounds[1] = Integer.MAX_VALUE;
+        bounds[2] = bounds[3] = Integer.MIN_VALUE;
+        int i = 0;
+        while (i < size) {
+            int len = getLength(ops[i]);
+            if (len < 0 || ops[i] != previousOps[i]) {
+                return false;
+            }
+            boolean changed = false;
+            for (int j = 1; j < len; j++) {
+                if (ops[i + j] != previousOps[i + j]) {
+                    changed = true;
+                    break;
+                }
+            }
+            if (changed) {
+                if (ops[i] == OP_COLOR) {
+                    //Every following command is affected
+                    return false;
+                }
+                addBounds(ops, i, images, bounds);
+                addBounds(previousOps, i, images, bounds);
+            }
+            i += len;
+        }
+        if (bounds[0] > bounds[2]) {
+            bounds[0] = bounds[1] = bounds[2] = bounds[3] = 0;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of bytes used by the recorded commands
+     *
+     * @return the size of the list in bytes
+     */
+    public int getSizeInBytes() {
+        return size * 4;
+    }
+
+    /**
+     * Records a color change
+     *
+     * @param rgb the color to set
+     */
+    public void setColor(int rgb) {
+        if (hasColor && color == rgb) {
+            return;
+        }
+        color = rgb;
+        hasColor = true;
+        ensureCapacity(2);
+        ops[size++] = OP_COLOR;
+        ops[size++] = rgb;
+    }
+
+    /**
+     * Records an image draw
+     *
+     * @param index the index of the image in the images array
+     * @param x the absolute x position
+     * @param y the absolute y position
+     */
+    public void drawImage(int index, int x, int y) {
+        ensureCapacity(4);
+        int relX = x - originX;
+        if (mirrored) {
+            Image img = keyImages == null ? null : ((Image[]) keyImages)[index];
+            relX = keyWidth - relX - (img == null ? 0 : img.getWidth());
+        }
+        ops[size++] = OP_IMAGE;
+        ops[size++] = index;
+        ops[size++] = relX;
+        ops[size++] = y - originY;
+    }
+
+    /**
+     * Starts the commands of the highlighted item
+     *
+     * @param x the absolute x position of the item
+     * @param y the absolute y position of the item
+     * @param width the width of the item
+     */
+    public void beginHighlight(int x, int y, int width) {
+        highlightX = mirrorX(x - originX, width);
+        highlightY = y - originY;
+        highlightStart = size;
+        //Commands following the item must not inherit a color set by a skipped or moved command
+        hasColor = false;
+    }
+
+    /**
+     * Ends the commands of the highlighted item
+     */
+    public void endHighlight() {
+        highlightEnd = size;
+        hasColor = false;
+    }
+
+    /**
+     * Starts the commands painted below the highlighted item while it slides
+     */
+    public void beginUnderlay() {
+        underlayStart = size;
+        hasColor = false;
+    }
+
+    /**
+     * Ends the commands painted below the highlighted item while it slides
+     */
+    public void endUnderlay() {
+        underlayEnd = size;
+        hasColor = false;
+    }
+
+    /**
+     * Returns true if the recording has a highlighted item
+     *
+     * @return true if a highlighted item was recorded
+     */
+    public boolean hasHighlight() {
+        return highlightStart >= 0 && highlightEnd > highlightStart;
+    }
+
+    /**
+     * Returns the x position where the highlighted item is currently painted,
+     * relative to the origin
+     *
+     * @return the painted x position of the highlighted item
+     */
+    public int getPaintedHighlightX() {
+        return highlightX + getMotionOffset(motionFromX, highlightX);
+    }
+
+    /**
+     * Returns the y position where the highlighted item is currently painted,
+     * relative to the origin
+     *
+     * @return the painted y position of the highlighted item
+     */
+    public int getPaintedHighlightY() {
+        return highlightY + getMotionOffset(motionFromY, highlightY);
+    }
+
+    /**
+     * Starts sliding the highlighted item from the given position to the one
+     * of the current recording. Kept across recordings.
+     *
+     * @param fromX the start x position relative to the origin
+     * @param fromY the start y position relative to the origin
+     */
+    public void startMotion(int fromX, int fromY) {
+        motionFromX = fromX;
+        motionFromY = fromY;
+        motionProgress = 0;
+    }
+
+    /**
+     * Sets the eased progress of the highlight slide
+     *
+     * @param progress the progress from 0 to {@link #MOTION_DONE}
+     */
+    public void setMotionProgress(int progress) {
+        motionProgress = Math.max(0, Math.min(MOTION_DONE, progress));
+    }
+
+    /**
+     * Returns true while the highlighted item slides
+     *
+     * @return true if the highlight is moving
+     */
+    public boolean isMoving() {
+        return motionProgress < MOTION_DONE && hasHighlight();
+    }
+
+    private int getMotionOffset(int from, int to) {
+        if (motionProgress >= MOTION_DONE) {
+            return 0;
+        }
+        return ((from - to) * (MOTION_DONE - motionProgress)) / MOTION_DONE;
+    }
+
+    /**
+     * Records the area of an item or navigation tapped by the pointer
+     *
+     * @param id the item position or one of the Indicator.HIT_* navigation ids
+     * @param x the absolute x position
+     * @param y the absolute y position
+     * @param width the width of the area
+     * @param height the height of the area
+     */
+    public void addHitArea(int id, int x, int y, int width, int height) {
+        if ((hitCount + 1) * 5 > hitAreas.length) {
+            int[] grown = new int[hitAreas.length * 2];
+            System.arraycopy(hitAreas, 0, grown, 0, hitAreas.length);
+            hitAreas = grown;
+            hitOrder = new int[hitOrder.length * 2];
+            hitSortedCount = -1;
+        }
+        int i = hitCount * 5;
+        int relX = mirrorX(x - originX, width);
+        int relY = y - originY;
+        if (hitAreas[i] != relX || hitAreas[i + 1] != relY || hitAreas[i + 2] != relX + width 
+                || hitAreas[i + 3] != relY + height || hitAreas[i + 4] != id) {
+            hitAreas[i] = relX;
+            hitAreas[i + 1] = relY;
+            hitAreas[i + 2] = relX + width;
+            hitAreas[i + 3] = relY + height;
+            hitAreas[i + 4] = id;
+            hitSortedCount = -1;
+        }
+        hitCount++;
+    }
+
+    /**
+     * Finds the item or navigation at a position, areas are widened by the 
+     * slop for coarse pointers and the nearest one wins
+     *
+     * @param x the x position relative to the origin
+     * @param y the y position relative to the origin
+     * @param slop the distance an area is widened on each side
+     * @return the id of the area or Indicator.HIT_NONE
+     */
+    public int getHitArea(int x, int y, int slop) {
+        if (hitCount == 0) {
+            return Indicator.HIT_NONE;
+        }
+        if (hitSortedCount != hitCount) {
+            sortHitAreas();
+        }
+        int axis = hitVertical ? 1 : 0;
+        int p = hitVertical ? y : x;
+        //Last area starting at or before the position
+        int low = 0;
+        int high = hitCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (hitAreas[hitOrder[mid] * 5 + axis] <= p) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        int hit = Indicator.HIT_NONE;
+        int distance = Integer.MAX_VALUE;
+        //The position is within the areas around the one found, widened by the slop
+        for (int j = Math.max(0, high - 1); j <= Math.min(hitCount - 1, high + 1); j++) {
+            int i = hitOrder[j] * 5;
+            if (x >= hitAreas[i] - slop && x < hitAreas[i + 2] + slop 
+                    && y >= hitAreas[i + 1] - slop && y < hitAreas[i + 3] + slop) {
+                int d = Math.abs(2 * p - hitAreas[i + axis] - hitAreas[i + axis + 2]);
+                if (d < distance) {
+                    distance = d;
+                    hit = hitAreas[i + 4];
+                }
+            }
+        }
+        return hit;
+    }
+
+    /**
+     * Returns the number of hit areas recorded
+     *
+     * @return the size of the hit table
+     */
+    public int getHitAreaCount() {
+        return hitCount;
+    }
+
+    /**
+     * Insertion sort of the indices, the areas are recorded almost in order
+     */
+    private void sortHitAreas() {
+        int minX = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (int i = 0; i < hitCount * 5; i += 5) {
+            minX = Math.min(minX, hitAreas[i]);
+            maxX = Math.max(maxX, hitAreas[i + 2]);
+            minY = Math.min(minY, hitAreas[i + 1]);
+            maxY = Math.max(maxY, hitAreas[i + 3]);
+        }
+        hitVertical = maxY - minY > maxX - minX;
+        int axis = hitVertical ? 1 : 0;
+        for (int j = 0; j < hitCount; j++) {
+            int start = hitAreas[j * 5 + axis];
+            int k = j - 1;
+            while (k >= 0 && hitAreas[hitOrder[k] * 5 + axis] > start) {
+                hitOrder[k + 1] = hitOrder[k];
+                k--;
+            }
+            hitOrder[k + 1] = j;
+        }
+        hitSortedCount = hitCount;
+    }
+
+    /**
+     * Records a filled triangle
+     */
+    public void fillTriangle(int x1, int y1, int x2, int y2, int x3, int y3) {
+        ensureCapacity(7);
+        ops[size++] = OP_FILL_TRIANGLE;
+        ops[size++] = mirrorX(x1 - originX, 0);
+        ops[size++] = y1 - originY;
+        ops[size++] = mirrorX(x2 - originX, 0);
+        ops[size++] = y2 - originY;
+        ops[size++] = mirrorX(x3 - originX, 0);
+        ops[size++] = y3 - originY;
+    }
+
+    /**
+     * Records a filled round rectangle
+     */
+    public void fillRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+        addRect(OP_FILL_ROUND_RECT, mirrorX(x - originX, width), y, width, height, arcWidth, arcHeight);
+    }
+
+    /**
+     * Records a round rectangle outline
+     */
+    public void drawRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+        //An outline of width w covers w + 1 pixels
+        addRect(OP_DRAW_ROUND_RECT, mirrorX(x - originX, width + 1), y, width, height, arcWidth, arcHeight);
+    }
+
+    /**
+     * Paints the recording as a single image. The commands are replayed into
+     * a snapshot once per recording, every other paint draws one image, which
+     * is the cheapest paint when the component is repainted much more often 
+     * than its state changes, e.g. under a transition or a scroll.
+     *
+     * @param g the graphics to paint on
+     * @param x the absolute x position of the component
+     * @param y the absolute y position of the component
+     * @param images the images referenced by the {@link #OP_IMAGE} commands
+     * @return false if nothing was painted, while the highlight slides or 
+     *         without alpha mutable images, the list has to be replayed
+     */
+    public boolean replaySnapshot(Graphics g, int x, int y, Image[] images) {
+        if (!recorded || isMoving() || keyWidth <= 0 || keyHeight <= 0 
+                || !Image.isAlphaMutableImageSupported()) {
+            return false;
+        }
+        if (!snapshotValid || snapshot == null) {
+            //A new transparent image, a mutable image can't be cleared to transparent
+            snapshot = Image.createImage(keyWidth, keyHeight, 0);
+            replay(snapshot.getGraphics(), 0, 0, images);
+            snapshotValid = true;
+        }
+        g.drawImage(snapshot, x, y);
+        return true;
+    }
+
+    /**
+     * Drops the snapshot of the recording, see {@link #replaySnapshot(Graphics, int, int, Image[])}
+     */
+    public void releaseSnapshot() {
+        snapshot = null;
+        snapshotValid = false;
+    }
+
+    /**
+     * Replays the recorded commands. Commands falling outside the current clip 
+     * of the graphics context are skipped.
+     *
+     * @param g graphics context
+     * @param x the current absolute x position of the component
+     * @param y the current absolute y position of the component
+     * @param images the images referenced by the {@link #OP_IMAGE} commands
+     */
+    public void replay(Graphics g, int x, int y, Image[] images) {
+        //Clip relative to the recorded coordinates
+        int clipX1 = g.getClipX() - x;
+        int clipY1 = g.getClipY() - y;
+        int clipX2 = clipX1 + g.getClipWidth();
+        int clipY2 = clipY1 + g.getClipHeight();
+        int[] ops = this.ops;
+        boolean moving = isMoving();
+        int dx = moving ? getMotionOffset(motionFromX, highlightX) : 0;
+        int dy = moving ? getMotionOffset(motionFromY, highlightY) : 0;
+        int baseX = x;
+        int baseY = y;
+        int i = 0;
+        while (i < size) {
+            if (moving && i >= highlightStart && i < highlightEnd) {
+                //Commands of the sliding item
+                x = baseX + dx;
+                y = baseY + dy;
+                clipX1 = g.getClipX() - x;
+                clipY1 = g.getClipY() - y;
+                clipX2 = clipX1 + g.getClipWidth();
+                clipY2 = clipY1 + g.getClipHeight();
+            } else if (x != baseX || y != baseY) {
+                x = baseX;
+                y = baseY;
+                clipX1 = g.getClipX() - x;
+                clipY1 = g.getClipY() - y;
+                clipX2 = clipX1 + g.getClipWidth();
+                clipY2 = clipY1 + g.getClipHeight();
+            }
+            if (!moving && i >= underlayStart && i < underlayEnd && ops[i] != OP_COLOR) {
+                i += getLength(ops[i]);
+                continue;
+            }
+            switch (ops[i]) {
+                case OP_COLOR:
+                    g.setColor(ops[i + 1]);
+                    i += 2;
+                    break;
+                case OP_IMAGE:
+                    Image img = images == null ? null : images[ops[i + 1]];
+                    if (img != null && intersects(ops[i + 2], ops[i + 3], 
+                            ops[i + 2] + img.getWidth(), ops[i + 3] + img.getHeight(),
+                            clipX1, clipY1, clipX2, clipY2)) {
+                        g.drawImage(img, x + ops[i + 2], y + ops[i + 3]);
+                    }
+                    i += 4;
+                    break;
+                case OP_FILL_TRIANGLE:
+                    if (intersects(min(ops[i + 1], ops[i + 3], ops[i + 5]), min(ops[i + 2], ops[i + 4], ops[i + 6]),
+                            max(ops[i + 1], ops[i + 3], ops[i + 5]) + 1, max(ops[i + 2], ops[i + 4], ops[i + 6]) + 1,
+                            clipX1, clipY1, clipX2, clipY2)) {
+                        g.fillTriangle(x + ops[i + 1], y + ops[i + 2], x + ops[i + 3], y + ops[i + 4],
+                                x + ops[i + 5], y + ops[i + 6]);
+                    }
+                    i += 7;
+                    break;
+                case OP_FILL_ROUND_RECT:
+                    if (intersects(ops[i + 1], ops[i + 2], ops[i + 1] + ops[i + 3] + 1, ops[i + 2] + ops[i + 4] + 1,
+                            clipX1, clipY1, clipX2, clipY2)) {
+                        g.fillRoundRect(x + ops[i + 1], y + ops[i + 2], ops[i + 3], ops[i + 4], ops[i + 5], ops[i + 6]);
+                    }
+                    i += 7;
+                    break;
+                case OP_DRAW_ROUND_RECT:
+                    if (intersects(ops[i + 1], ops[i + 2], ops[i + 1] + ops[i + 3] + 1, ops[i + 2] + ops[i + 4] + 1,
+                            clipX1, clipY1, clipX2, clipY2)) {
+                        g.drawRoundRect(x + ops[i + 1], y + ops[i + 2], ops[i + 3], ops[i + 4], ops[i + 5], ops[i + 6]);
+                    }
+                    i += 7;
+                    break;
+                default:
+                    //Corrupted list, record it again on next paint
+                    valid = false;
+                    return;
+            }
+        }
+    }
+
+    private static int getLength(int op) {
+        switch (op) {
+            case OP_COLOR:
+                return 2;
+            case OP_IMAGE:
+                return 4;
+            case OP_FILL_TRIANGLE:
+            case OP_FILL_ROUND_RECT:
+            case OP_DRAW_ROUND_RECT:
+                return 7;
+            default:
+                return -1;
+        }
+    }
+
+    private static void addBounds(int[] ops, int i, Image[] images, int[] bounds) {
+        int x1, y1, x2, y2;
+        switch (ops[i]) {
+            case OP_IMAGE:
+                Image img = images == null ? null : images[ops[i + 1]];
+                if (img == null) {
+                    return;
+                }
+                x1 = ops[i + 2];
+                y1 = ops[i + 3];
+                x2 = x1 + img.getWidth();
+                y2 = y1 + img.getHeight();
+                break;
+            case OP_FILL_TRIANGLE:
+                x1 = min(ops[i + 1], ops[i + 3], ops[i + 5]);
+                y1 = min(ops[i + 2], ops[i + 4], ops[i + 6]);
+                x2 = max(ops[i + 1], ops[i + 3], ops[i + 5]) + 1;
+                y2 = max(ops[i + 2], ops[i + 4], ops[i + 6]) + 1;
+                break;
+            default:
+                x1 = ops[i + 1];
+                y1 = ops[i + 2];
+                x2 = x1 + ops[i + 3] + 1;
+                y2 = y1 + ops[i + 4] + 1;
+                break;
+        }
+        bounds[0] = Math.min(bounds[0], x1);
+        bounds[1] = Math.min(bounds[1], y1);
+        bounds[2] = Math.max(bounds[2], x2);
+        bounds[3] = Math.max(bounds[3], y2);
+    }
+
+    private static boolean intersects(int x1, int y1, int x2, int y2, 
+            int clipX1, int clipY1, int clipX2, int clipY2) {
+        return x1 < clipX2 && x2 > clipX1 && y1 < clipY2 && y2 > clipY1;
+    }
+
+    private static int min(int a, int b, int c) {
+        return Math.min(a, Math.min(b, c));
+    }
+
+    private static int max(int a, int b, int c) {
+        return Math.max(a, Math.max(b, c));
+    }
+
+    private int mirrorX(int relX, int width) {
+        return mirrored ? keyWidth - relX - width : relX;
+    }
+
+    private void addRect(int op, int relX, int y, int width, int height, int arcWidth, int arcHeight) {
+        ensureCapacity(7);
+        ops[size++] = op;
+        ops[size++] = relX;
+        ops[size++] = y - originY;
+        ops[size++] = width;
+        ops[size++] = height;
+        ops[size++] = arcWidth;
+        ops[size++] = arcHeight;
+    }
+
+    private void ensureCapacity(int count) {
+        if (size + count > ops.length) {
+            int[] grown = new int[Math.max(ops.length * 2, size + count)];
+            System.arraycopy(ops, 0, grown, 0, size);
+            ops = grown;
+        }
+    }
+}
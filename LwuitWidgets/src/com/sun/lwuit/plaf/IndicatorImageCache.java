@@ -0,0 +1,435 @@
+package com.sun.lwuit.plaf;
+
+import com.sun.lwuit.Image;
+import com.sun.lwuit.IndicatorCompactImage;
+import com.sun.lwuit.RGBImage;
+import java.util.Hashtable;
+import java.util.Vector;
+
+/**
+ * Caches the images derived from the indicator skins, so expensive pixel
+ * operations are done once per skin instead of once per frame.
+ * <br><br>
+ * A skin is an images array in the order {dimmed, undimmed, previous, next, first, last}.
+ *
+ * @version 1.0
+ *
+ * @since LWUIT 1.4
+ *
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public class IndicatorImageCache {
+    /** Bound for the number of cached skins, the least recently used one is dropped when reached */
+    private static final int MAX_ENTRIES = 16;
+
+    /** Bound for the number of colors cached per skin */
+    private static final int MAX_COLORS = 4;
+
+    /** Maps a source skin to its precomposed skins by background color */
+    private final SkinCache precomposed = new SkinCache();
+
+    /** Maps a source skin to its horizontally flipped skin */
+    private final SkinCache mirrored = new SkinCache();
+
+    /** Maps a source skin to the skin with its navigations rotated clockwise */
+    private final SkinCache rotated = new SkinCache();
+
+    /** Maps a source skin to the skin kept as ARGB arrays */
+    private final SkinCache rgbImages = new SkinCache();
+
+    /** Maps a source skin to the skin stored compact */
+    private final SkinCache compacted = new SkinCache();
+
+    /** Maps the masks to their tinted skins by tint color */
+    private final SkinCache tinted = new SkinCache();
+
+    /** Opacity of the dimmed item relative to the mask */
+    private static final int DIMMED_ALPHA = 0x80;
+
+    /**
+     * Checks the images of the skin for alpha.
+     * Should be invoked when the skin is loaded, the result is kept by the images.
+     *
+     * @param images the skin images, might be null
+     */
+    public static void checkAlpha(Image[] images) {
+        if (images == null) {
+            return;
+        }
+        for (int i = 0; i < images.length; i++) {
+            if (images[i] != null) {
+                images[i].isOpaque();
+            }
+        }
+    }
+
+    /**
+     * Returns the skin with each translucent image composed against the given
+     * opaque background color. Fully opaque images are returned as is.
+     *
+     * @param images the source skin
+     * @param bgColor the background color of the component
+     * @return skin with opaque images only
+     */
+    public Image[] getPrecomposed(Image[] images, int bgColor) {
+        return getPrecomposed(images, bgColor, true);
+    }
+
+    /**
+     * Returns the skin with each translucent image composed against the given
+     * opaque background color, see {@link #getPrecomposed(Image[], int)}
+     *
+     * @param images the source skin
+     * @param bgColor the background color of the component
+     * @param create false to return only a skin already cached
+     * @return skin with opaque images only, null if not cached and create is false
+     */
+    public Image[] getPrecomposed(Image[] images, int bgColor, boolean create) {
+        if (images == null) {
+            return null;
+        }
+        //Looked up on every paint, nothing is allocated
+        ColorSkins colors = (ColorSkins) precomposed.get(images);
+        Image[] composed = colors == null ? null : colors.get(bgColor);
+        if (composed != null || !create) {
+            return composed;
+        }
+        composed = new Image[images.length];
+        for (int i = 0; i < images.length; i++) {
+            Image img = images[i];
+            if (img == null || img.isOpaque()) {
+                composed[i] = img;
+            } else {
+                composed[i] = compose(img, bgColor);
+            }
+        }
+        if (colors == null) {
+            colors = new ColorSkins();
+            precomposed.put(images, colors);
+        }
+        colors.put(bgColor, composed);
+        return composed;
+    }
+
+    /**
+     * Returns the skin with every image flipped horizontally, used for right 
+     * to left components where previous/first navigations point to the right.
+     *
+     * @param images the source skin
+     * @return the mirrored skin
+     */
+    public Image[] getMirrored(Image[] images) {
+        if (images == null) {
+            return null;
+        }
+        Image[] flipped = (Image[]) mirrored.get(images);
+        if (flipped == null) {
+            flipped = new Image[images.length];
+            for (int i = 0; i < images.length; i++) {
+                flipped[i] = images[i] == null ? null : flipHorizontally(images[i]);
+            }
+            mirrored.put(images, flipped);
+            checkAlpha(flipped);
+        }
+        return flipped;
+    }
+
+    /**
+     * Returns the skin generated from the alpha masks {item, arrow, double arrow}
+     * tinted with the given color. The dimmed item is the item mask at half 
+     * opacity, 'next' and 'last' navigations are flipped from the arrows.
+     *
+     * @param masks the alpha masks, the arrows might be null
+     * @param color the tint color
+     * @return the tinted skin
+     */
+    public Image[] getTinted(Image[] masks, int color) {
+        if (masks == null) {
+            return null;
+        }
+        color = color & 0xffffff;
+        ColorSkins colors = (ColorSkins) tinted.get(masks);
+        if (colors == null) {
+            colors = new ColorSkins();
+            tinted.put(masks, colors);
+        }
+        Image[] skin = colors.get(color);
+        if (skin == null) {
+            skin = new Image[6];
+            skin[0] = tint(masks[0], color, DIMMED_ALPHA);
+            skin[1] = tint(masks[0], color, 0xff);
+            if (masks[1] != null) {
+                skin[2] = tint(masks[1], color, 0xff);
+                skin[3] = flipHorizontally(skin[2]);
+            }
+            if (masks[2] != null) {
+                skin[4] = tint(masks[2], color, 0xff);
+                skin[5] = flipHorizontally(skin[4]);
+            }
+            checkAlpha(skin);
+            colors.put(color, skin);
+        }
+        return skin;
+    }
+
+    /**
+     * Returns the skin with the navigation images rotated 90 degrees clockwise,
+     * so the left/right arrows of a horizontal skin point up/down in a vertical
+     * indicator. The items are not rotated.
+     *
+     * @param images the source skin
+     * @return the skin for vertical indicators
+     */
+    public Image[] getRotated(Image[] images) {
+        if (images == null) {
+            return null;
+        }
+        Image[] turned = (Image[]) rotated.get(images);
+        if (turned == null) {
+            turned = new Image[images.length];
+            for (int i = 0; i < images.length; i++) {
+                if (i < 2 || images[i] == null) {
+                    turned[i] = images[i];
+                } else {
+                    turned[i] = rotateClockwise(images[i]);
+                }
+            }
+            rotated.put(images, turned);
+            checkAlpha(turned);
+        }
+        return turned;
+    }
+
+    /**
+     * Returns the skin with every image kept as an ARGB array, painted with
+     * drawRGB instead of drawing the native image
+     *
+     * @param images the source skin
+     * @return the skin of RGB images
+     */
+    public Image[] getRGBImages(Image[] images) {
+        if (images == null) {
+            return null;
+        }
+        Image[] rgb = (Image[]) rgbImages.get(images);
+        if (rgb == null) {
+            rgb = new Image[images.length];
+            for (int i = 0; i < images.length; i++) {
+                Image img = images[i];
+                if (img == null || img instanceof RGBImage) {
+                    rgb[i] = img;
+                } else {
+                    RGBImage rgbImage = new RGBImage(img.getRGB(), img.getWidth(), img.getHeight());
+                    rgbImage.setOpaque(img.isOpaque());
+                    rgb[i] = rgbImage;
+                }
+            }
+            rgbImages.put(images, rgb);
+        }
+        return rgb;
+    }
+
+    /**
+     * Returns the skin with every image stored compact, see
+     * {@link IndicatorCompactImage#compact(Image[])}
+     *
+     * @param images the source skin
+     * @return the compact skin
+     */
+    public Image[] getCompact(Image[] images) {
+        if (images == null) {
+            return null;
+        }
+        Image[] compact = (Image[]) compacted.get(images);
+        if (compact == null) {
+            compact = IndicatorCompactImage.compact(images);
+            compacted.put(images, compact);
+            //Storing the compact skin again keeps it as is
+            compacted.put(compact, compact);
+        }
+        return compact;
+    }
+
+    /**
+     * Fills the missing navigation images of the skin by flipping their
+     * opposite, 'next' from 'previous', 'last' from 'first' and vice versa.
+     * Navigations present in the skin are kept.
+     *
+     * @param skin the skin images, updated in place
+     */
+    public static void deriveNavigations(Image[] skin) {
+        if (skin == null || skin.length < 6) {
+            return;
+        }
+        for (int i = 2; i < 6; i += 2) {
+            if (skin[i] == null && skin[i + 1] != null) {
+                skin[i] = flipHorizontally(skin[i + 1]);
+            } else if (skin[i + 1] == null && skin[i] != null) {
+                skin[i + 1] = flipHorizontally(skin[i]);
+            }
+        }
+    }
+
+    /**
+     * Drops every cached image
+     */
+    public void clear() {
+        precomposed.clear();
+        mirrored.clear();
+        rotated.clear();
+        rgbImages.clear();
+        compacted.clear();
+        tinted.clear();
+    }
+
+    /**
+     * Skins keyed by their source array, dropping the least recently used one when full
+     */
+    private static class SkinCache {
+        private final Hashtable entries = new Hashtable();
+
+        /** Keys from the least to the most recently used */
+        private final Vector order = new Vector();
+
+        Object get(Object key) {
+            Object value = entries.get(key);
+            if (value != null && order.lastElement() != key) {
+                order.removeElement(key);
+                order.addElement(key);
+            }
+            return value;
+        }
+
+        void put(Object key, Object value) {
+            if (entries.containsKey(key)) {
+                order.removeElement(key);
+            } else if (order.size() >= MAX_ENTRIES) {
+                entries.remove(order.elementAt(0));
+                order.removeElementAt(0);
+            }
+            entries.put(key, value);
+            order.addElement(key);
+        }
+
+        void clear() {
+            entries.clear();
+            order.removeAllElements();
+        }
+    }
+
+    /**
+     * Skins derived from one source for a few colors, the most recently used first
+     */
+    private static class ColorSkins {
+        private final int[] colors = new int[MAX_COLORS];
+
+        private final Image[][] skins = new Image[MAX_COLORS][];
+
+        private int count;
+
+        Image[] get(int color) {
+            for (int i = 0; i < count; i++) {
+                if (colors[i] == color) {
+                    Image[] skin = skins[i];
+                    moveToFront(i, color, skin);
+                    return skin;
+                }
+            }
+            return null;
+        }
+
+        void put(int color, Image[] skin) {
+            if (count < MAX_COLORS) {
+                count++;
+            }
+            //The last one is dropped when full
+            moveToFront(count - 1, color, skin);
+        }
+
+        private void moveToFront(int index, int color, Image[] skin) {
+            for (int i = index; i > 0; i--) {
+                colors[i] = colors[i - 1];
+                skins[i] = skins[i - 1];
+            }
+            colors[0] = color;
+            skins[0] = skin;
+        }
+    }
+
+    private static Image rotateClockwise(Image img) {
+        int w = img.getWidth();
+        int h = img.getHeight();
+        int[] rgb = img.getRGB();
+        int[] turned = new int[rgb.length];
+        for (int y = 0; y < h; y++) {
+            int row = y * w;
+            for (int x = 0; x < w; x++) {
+                //(x, y) moves to (h - 1 - y, x) in the w pixels high result
+                turned[x * h + (h - 1 - y)] = rgb[row + x];
+            }
+        }
+        return createImage(img, turned, h, w);
+    }
+
+    private static Image tint(Image mask, int color, int alpha) {
+        int[] rgb = mask.getRGB();
+        for (int i = 0; i < rgb.length; i++) {
+            int a = ((rgb[i] >>> 24) * alpha) / 0xff;
+            rgb[i] = (a << 24) | color;
+        }
+        return Image.createImage(rgb, mask.getWidth(), mask.getHeight());
+    }
+
+    private static Image flipHorizontally(Image img) {
+        int w = img.getWidth();
+        int h = img.getHeight();
+        int[] rgb = img.getRGB();
+        for (int y = 0; y < h; y++) {
+            int left = y * w;
+            int right = left + w - 1;
+            while (left < right) {
+                int tmp = rgb[left];
+                rgb[left++] = rgb[right];
+                rgb[right--] = tmp;
+            }
+        }
+        return createImage(img, rgb, w, h);
+    }
+
+    private static Image compose(Image img, int bgColor) {
+        int[] rgb = img.getRGB();
+        int bgR = (bgColor >> 16) & 0xff;
+        int bgG = (bgColor >> 8) & 0xff;
+        int bgB = bgColor & 0xff;
+        for (int i = 0; i < rgb.length; i++) {
+            int p = rgb[i];
+            int a = (p >>> 24);
+            if (a == 0xff) {
+                continue;
+            }
+            if (a == 0) {
+                rgb[i] = 0xff000000 | (bgColor & 0xffffff);
+                continue;
+            }
+            int na = 0xff - a;
+            int r = (((p >> 16) & 0xff) * a + bgR * na) / 0xff;
+            int g = (((p >> 8) & 0xff) * a + bgG * na) / 0xff;
+            int b = ((p & 0xff) * a + bgB * na) / 0xff;
+            rgb[i] = 0xff000000 | (r << 16) | (g << 8) | b;
+        }
+        return createImage(img, rgb, img.getWidth(), img.getHeight());
+    }
+
+    /**
+     * Creates the image derived from the source, kept compact if the source is
+     */
+    private static Image createImage(Image source, int[] rgb, int width, int height) {
+        if (source instanceof IndicatorCompactImage) {
+            Image img = IndicatorCompactImage.create(rgb, width, height);
+            if (img != null) {
+                return img;
+            }
+        }
+        return Image.createImage(rgb, width, height);
+    }
+}
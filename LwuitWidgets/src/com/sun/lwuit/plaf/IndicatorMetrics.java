@@ -0,0 +1,153 @@
+package com.sun.lwuit.plaf;
+
+/**
+ * Collects the figures of the indicator widgets, e.g. memory saved by the
+ * compact image storage, so they can be inspected on the device.
+ * <br><br>
+ * The counters are cumulative since the start of the application or the
+ * last {@link #reset()}.
+ *
+ * @version 1.0
+ *
+ * @since LWUIT 1.4
+ *
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public class IndicatorMetrics {
+    private static IndicatorMetrics instance = new IndicatorMetrics();
+
+    private int compactImages;
+
+    private long argbImageBytes;
+
+    private long compactImageBytes;
+
+    private int qualityDowngrades;
+
+    private int qualityUpgrades;
+
+    private int quality;
+
+    IndicatorMetrics() {
+    }
+
+    /**
+     * Returns the metrics of the indicator widgets
+     *
+     * @return the metrics instance
+     */
+    public static IndicatorMetrics getInstance() {
+        return instance;
+    }
+
+    /**
+     * Invoked when an image is stored in a compact format
+     *
+     * @param argbBytes bytes the image takes as 32-bit ARGB
+     * @param compactBytes bytes the image takes in the compact format
+     */
+    public synchronized void compactImageCreated(int argbBytes, int compactBytes) {
+        compactImages++;
+        argbImageBytes += argbBytes;
+        compactImageBytes += compactBytes;
+    }
+
+    /**
+     * Returns the number of images stored in a compact format
+     *
+     * @return the number of compact images created
+     */
+    public synchronized int getCompactImageCount() {
+        return compactImages;
+    }
+
+    /**
+     * Returns the bytes the compact images would take as 32-bit ARGB
+     *
+     * @return the ARGB size of the compact images
+     */
+    public synchronized long getArgbImageBytes() {
+        return argbImageBytes;
+    }
+
+    /**
+     * Returns the bytes the compact images take
+     *
+     * @return the size of the compact images
+     */
+    public synchronized long getCompactImageBytes() {
+        return compactImageBytes;
+    }
+
+    /**
+     * Returns the bytes saved by storing images in a compact format
+     *
+     * @return the memory saved by the compact images
+     */
+    public synchronized long getImageBytesSaved() {
+        return argbImageBytes - compactImageBytes;
+    }
+
+    /**
+     * Invoked when a frame budget controller changes the quality of an indicator
+     *
+     * @param oldQuality the previous quality level
+     * @param newQuality the new quality level
+     */
+    public synchronized void qualityChanged(int oldQuality, int newQuality) {
+        if (newQuality > oldQuality) {
+            qualityDowngrades++;
+        } else {
+            qualityUpgrades++;
+        }
+        quality = newQuality;
+    }
+
+    /**
+     * Returns the number of times an indicator quality was lowered
+     *
+     * @return the number of quality downgrades
+     */
+    public synchronized int getQualityDowngrades() {
+        return qualityDowngrades;
+    }
+
+    /**
+     * Returns the number of times an indicator quality was raised
+     *
+     * @return the number of quality upgrades
+     */
+    public synchronized int getQualityUpgrades() {
+        return qualityUpgrades;
+    }
+
+    /**
+     * Returns the last quality level set by a frame budget controller
+     *
+     * @return the last quality level
+     */
+    public synchronized int getQuality() {
+        return quality;
+    }
+
+    /**
+     * Resets every counter
+     */
+    public synchronized void reset() {
+        compactImages = 0;
+        argbImageBytes = 0;
+        compactImageBytes = 0;
+        qualityDowngrades = 0;
+        qualityUpgrades = 0;
+        quality = 0;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    public synchronized String toString() {
+        return "compactImages = " + compactImages + ", argbImageBytes = " + argbImageBytes
+                + ", compactImageBytes = " + compactImageBytes + ", qualityDowngrades = " + qualityDowngrades
+                + ", qualityUpgrades = " + qualityUpgrades + ", quality = " + quality;
+    }
+}
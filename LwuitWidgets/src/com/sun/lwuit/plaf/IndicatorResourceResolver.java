@@ -0,0 +1,268 @@
+package com.sun.lwuit.plaf;
+
+import com.sun.lwuit.Display;
+import com.sun.lwuit.Image;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Hashtable;
+
+/**
+ * Resolves the indicator images from density buckets, so devices load images
+ * made for their screen density instead of scaling them at runtime.
+ * <br><br>
+ * For a root folder '/res' the images are searched in the bucket matching the
+ * device density first, then in the other buckets from the nearest, then in
+ * '/res/default' and finally in '/res' itself, e.g. for a high density device:
+ * <br>
+ * '/res/hdpi', '/res/xhdpi', '/res/mdpi', '/res/ldpi', '/res/default', '/res'
+ * <br><br>
+ * The resolved path of each image name is cached.
+ * <br><br>
+ * Bucket folders generated by the build ('pre-jar' target of build.xml) contain
+ * an 'indicator.manifest' listing the images already normalised, which don't
+ * need to be scaled at runtime, see {@link #isNormalised(String)}.
+ *
+ * @version 1.0
+ *
+ * @since LWUIT 1.4
+ *
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public class IndicatorResourceResolver {
+    /** Low density bucket (~120dpi) */
+    public static final String BUCKET_LDPI = "ldpi";
+
+    /** Medium density bucket (~160dpi) */
+    public static final String BUCKET_MDPI = "mdpi";
+
+    /** High density bucket (~240dpi) */
+    public static final String BUCKET_HDPI = "hdpi";
+
+    /** Very high density bucket (~320dpi) */
+    public static final String BUCKET_XHDPI = "xhdpi";
+
+    /** Density independent bucket, the last bucket searched */
+    public static final String BUCKET_DEFAULT = "default";
+
+    private static final String[] BUCKETS = {BUCKET_LDPI, BUCKET_MDPI, BUCKET_HDPI, BUCKET_XHDPI};
+
+    /** Marks an image name which couldn't be resolved */
+    private static final String NOT_FOUND = "";
+
+    /** Name of the manifest listing the normalised images of a bucket folder */
+    public static final String MANIFEST = "indicator.manifest";
+
+    private static final String[] SKIN_IMAGES = {"Dimmed", "Undimmed", "Previous", "Next", "First", "Last"};
+
+    private static String deviceBucket = null;
+
+    private final String root;
+
+    private final String[] folders;
+
+    private final Hashtable resolved = new Hashtable();
+
+    /** Maps a folder to the Hashtable of its normalised image names */
+    private final Hashtable manifests = new Hashtable();
+
+    /**
+     * Creates a resolver for the device density bucket
+     *
+     * @param root the folder containing the density buckets, e.g. '/res'
+     */
+    public IndicatorResourceResolver(String root) {
+        this(root, getDeviceBucket());
+    }
+
+    /**
+     * Creates a resolver for the given density bucket
+     *
+     * @param root the folder containing the density buckets, e.g. '/res'
+     * @param bucket the preferred density bucket
+     *
+     * @see #BUCKET_LDPI
+     * @see #BUCKET_MDPI
+     * @see #BUCKET_HDPI
+     * @see #BUCKET_XHDPI
+     */
+    public IndicatorResourceResolver(String root, String bucket) {
+        if (root.endsWith("/")) {
+            root = root.substring(0, root.length() - 1);
+        }
+        this.root = root;
+        int index = BUCKETS.length - 1;
+        while (index > 0 && !BUCKETS[index].equals(bucket)) {
+            index--;
+        }
+        //Preferred bucket, then denser buckets (scaled down looks better), then lighter ones
+        folders = new String[BUCKETS.length + 2];
+        int count = 0;
+        for (int i = index; i < BUCKETS.length; i++) {
+            folders[count++] = root + "/" + BUCKETS[i] + "/";
+        }
+        for (int i = index - 1; i >= 0; i--) {
+            folders[count++] = root + "/" + BUCKETS[i] + "/";
+        }
+        folders[count++] = root + "/" + BUCKET_DEFAULT + "/";
+        folders[count++] = root + "/";
+    }
+
+    /**
+     * Returns the folder containing the density buckets
+     *
+     * @return the root folder, without trailing '/'
+     */
+    public String getRoot() {
+        return root;
+    }
+
+    /**
+     * Returns the density bucket matching the device, computed once
+     *
+     * @return the density bucket of the device
+     */
+    public static String getDeviceBucket() {
+        if (deviceBucket == null) {
+            if (!Display.isInitialized()) {
+                return BUCKET_MDPI;
+            }
+            Display d = Display.getInstance();
+            int density = d.getDeviceDensity();
+            if (density <= Display.DENSITY_LOW) {
+                deviceBucket = BUCKET_LDPI;
+            } else if (density == Display.DENSITY_MEDIUM) {
+                deviceBucket = BUCKET_MDPI;
+            } else if (density == Display.DENSITY_HIGH) {
+                deviceBucket = BUCKET_HDPI;
+            } else {
+                deviceBucket = BUCKET_XHDPI;
+            }
+        }
+        return deviceBucket;
+    }
+
+    /**
+     * Returns the path of the image with the given name
+     *
+     * @param imageName the image name without the '.png' extension
+     * @return the resource path of the image or null if not found in any bucket
+     */
+    public String resolve(String imageName) {
+        String path = (String) resolved.get(imageName);
+        if (path == null) {
+            path = NOT_FOUND;
+            for (int i = 0; i < folders.length; i++) {
+                String candidate = folders[i] + imageName + ".png";
+                if (exists(candidate)) {
+                    path = candidate;
+                    break;
+                }
+            }
+            resolved.put(imageName, path);
+        }
+        return path == NOT_FOUND ? null : path;
+    }
+
+    /**
+     * Creates the image with the given name from the best matching bucket
+     *
+     * @param imageName the image name without the '.png' extension
+     * @return the image
+     * @throws IOException if the image is not found in any bucket
+     */
+    public Image createImage(String imageName) throws IOException {
+        String path = resolve(imageName);
+        if (path == null) {
+            throw new IOException("(" + imageName + ") image not found");
+        }
+        return Image.createImage(path);
+    }
+
+    /**
+     * Checks whether the images of a skin were normalised at build time, i.e.
+     * all of them resolve to the same folder which lists them in its manifest.
+     * Normalised images are proportional and don't need runtime scaling.
+     *
+     * @param skin the text between the image type and 'Image' in the file names,
+     *             e.g. 'Focus' for 'indicatorDimmedFocusImage.png'
+     * @return true if the skin images can be used without scaling
+     */
+    public boolean isNormalised(String skin) {
+        String folder = null;
+        for (int i = 0; i < SKIN_IMAGES.length; i++) {
+            String name = "indicator" + SKIN_IMAGES[i] + skin + "Image";
+            String path = resolve(name);
+            if (path == null) {
+                //Navigation images are optional
+                if (i < 2) {
+                    return false;
+                }
+                continue;
+            }
+            String parent = path.substring(0, path.lastIndexOf('/') + 1);
+            if (folder == null) {
+                folder = parent;
+            } else if (!folder.equals(parent)) {
+                return false;
+            }
+            if (!getManifest(folder).containsKey(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Hashtable getManifest(String folder) {
+        Hashtable names = (Hashtable) manifests.get(folder);
+        if (names == null) {
+            names = new Hashtable();
+            InputStream is = open(folder + MANIFEST);
+            if (is != null) {
+                try {
+                    StringBuffer line = new StringBuffer();
+                    int c;
+                    do {
+                        c = is.read();
+                        if (c == '\n' || c == '\r' || c == -1) {
+                            if (line.length() > 0) {
+                                String name = line.toString().trim();
+                                names.put(name, name);
+                                line.setLength(0);
+                            }
+                        } else {
+                            line.append((char) c);
+                        }
+                    } while (c != -1);
+                } catch (IOException e) {
+                    names.clear();
+                } finally {
+                    close(is);
+                }
+            }
+            manifests.put(folder, names);
+        }
+        return names;
+    }
+
+    private InputStream open(String path) {
+        return Display.isInitialized()
+                ? Display.getInstance().getResourceAsStream(getClass(), path)
+                : getClass().getResourceAsStream(path);
+    }
+
+    private boolean exists(String path) {
+        InputStream is = open(path);
+        if (is == null) {
+            return false;
+        }
+        close(is);
+        return true;
+    }
+
+    private static void close(InputStream is) {
+        try {
+            is.close();
+        } catch (IOException e) {
+        }
+    }
+}
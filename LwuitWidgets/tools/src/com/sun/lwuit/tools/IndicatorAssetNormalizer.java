@@ -0,0 +1,213 @@
+package com.sun.lwuit.tools;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.imageio.ImageIO;
+
+/**
+ * Build time tool normalising and pre-scaling the 'Indicator' images, so
+ * the device loads proportional images and doesn't scale them at runtime.
+ * <br><br>
+ * Every skin found in the source folder ('indicatorDimmed@Image.png' and its
+ * peers, see Indicator.loadImages(...)) is written to one folder per density
+ * bucket, with the dimmed image scaled to the bucket height, the undimmed
+ * image fitted to the dimmed image and the navigation images scaled to the
+ * dimmed height. Each bucket folder gets an 'indicator.manifest' listing the
+ * normalised images, which the runtime uses to skip scaling.
+ * <br><br>
+ * Usage: IndicatorAssetNormalizer srcDir destDir ldpi:12,mdpi:16,... [threads]
+ *
+ * @version 1.0
+ *
+ * @since LWUIT 1.4
+ *
+ * @author Vimal, vimal.lwuit@ymail.com
+ */
+public class IndicatorAssetNormalizer {
+    /** Name of the manifest written into each bucket folder */
+    public static final String MANIFEST = "indicator.manifest";
+
+    private static final String[] NAVIGATIONS = {"Previous", "Next", "First", "Last"};
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("Usage: IndicatorAssetNormalizer srcDir destDir bucket:height,... [threads]");
+            System.exit(1);
+        }
+        File srcDir = new File(args[0]);
+        File destDir = new File(args[1]);
+        String[] buckets = args[2].split(",");
+        int threads = args.length > 3 ? Integer.parseInt(args[3].trim()) : Runtime.getRuntime().availableProcessors();
+
+        List skins = findSkins(srcDir);
+        if (skins.isEmpty()) {
+            System.out.println("No indicator images found in " + srcDir);
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        try {
+            List bucketDirs = new ArrayList();
+            List tasks = new ArrayList();
+            for (int i = 0; i < buckets.length; i++) {
+                String[] pair = buckets[i].trim().split(":");
+                File bucketDir = new File(destDir, pair[0].trim());
+                int height = Integer.parseInt(pair[1].trim());
+                bucketDir.mkdirs();
+                List names = Collections.synchronizedList(new ArrayList());
+                bucketDirs.add(new Object[]{bucketDir, names});
+                for (int j = 0; j < skins.size(); j++) {
+                    tasks.add(executor.submit(new SkinTask(srcDir, bucketDir, (String) skins.get(j), height, names)));
+                }
+            }
+            for (int i = 0; i < tasks.size(); i++) {
+                ((Future) tasks.get(i)).get();
+            }
+            for (int i = 0; i < bucketDirs.size(); i++) {
+                Object[] entry = (Object[]) bucketDirs.get(i);
+                writeManifest((File) entry[0], (List) entry[1]);
+            }
+            System.out.println("Normalised " + skins.size() + " indicator skin(s) into " + buckets.length + " bucket(s)");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Returns the skin suffixes (focus and append text) found in the folder
+     */
+    private static List findSkins(File srcDir) {
+        List skins = new ArrayList();
+        String[] files = srcDir.list();
+        if (files == null) {
+            return skins;
+        }
+        for (int i = 0; i < files.length; i++) {
+            String name = files[i];
+            if (name.startsWith("indicatorDimmed") && name.endsWith("Image.png")) {
+                skins.add(name.substring("indicatorDimmed".length(), name.length() - "Image.png".length()));
+            }
+        }
+        Collections.sort(skins);
+        return skins;
+    }
+
+    private static void writeManifest(File bucketDir, List names) throws IOException {
+        Collections.sort(names);
+        Writer out = new OutputStreamWriter(new FileOutputStream(new File(bucketDir, MANIFEST)), "UTF-8");
+        try {
+            for (int i = 0; i < names.size(); i++) {
+                out.write((String) names.get(i));
+                out.write('\n');
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage img, int width, int height) {
+        width = Math.max(1, width);
+        height = Math.max(1, height);
+        if (img.getWidth() == width && img.getHeight() == height) {
+            return img;
+        }
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(img, 0, 0, width, height, null);
+        g.dispose();
+        return scaled;
+    }
+
+    /**
+     * Same as Image.scaledSmallerRatio(...) of LWUIT
+     */
+    private static BufferedImage scaledSmallerRatio(BufferedImage img, int width, int height) {
+        float r1 = ((float) width) / ((float) img.getWidth());
+        float r2 = ((float) height) / ((float) img.getHeight());
+        if (r1 < r2) {
+            return scale(img, width, (int) (img.getHeight() * r1));
+        }
+        return scale(img, (int) (img.getWidth() * r2), height);
+    }
+
+    private static BufferedImage scaledHeight(BufferedImage img, int height) {
+        float ratio = ((float) height) / ((float) img.getHeight());
+        return scale(img, (int) (img.getWidth() * ratio), height);
+    }
+
+    /**
+     * Normalises one skin for one bucket
+     */
+    private static class SkinTask implements Runnable {
+        private final File srcDir;
+        private final File bucketDir;
+        private final String skin;
+        private final int height;
+        private final List names;
+
+        SkinTask(File srcDir, File bucketDir, String skin, int height, List names) {
+            this.srcDir = srcDir;
+            this.bucketDir = bucketDir;
+            this.skin = skin;
+            this.height = height;
+            this.names = names;
+        }
+
+        public void run() {
+            try {
+                BufferedImage dimmed = read("Dimmed");
+                BufferedImage undimmed = read("Undimmed");
+                if (dimmed == null || undimmed == null) {
+                    return;
+                }
+                //Same proportions as the runtime scaling in Indicator.loadImages(...)
+                if (dimmed.getWidth() <= undimmed.getWidth()) {
+                    undimmed = scaledSmallerRatio(undimmed, dimmed.getWidth(), dimmed.getHeight());
+                } else {
+                    dimmed = scaledSmallerRatio(dimmed, undimmed.getWidth(), undimmed.getHeight());
+                }
+                float ratio = ((float) height) / ((float) dimmed.getHeight());
+                dimmed = scaledHeight(dimmed, height);
+                undimmed = scale(undimmed, (int) (undimmed.getWidth() * ratio), (int) (undimmed.getHeight() * ratio));
+                write("Dimmed", dimmed);
+                write("Undimmed", undimmed);
+                for (int i = 0; i < NAVIGATIONS.length; i++) {
+                    BufferedImage nav = read(NAVIGATIONS[i]);
+                    if (nav != null) {
+                        write(NAVIGATIONS[i], scaledHeight(nav, height));
+                    }
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to normalise indicator skin '" + skin + "': " + e.getMessage());
+            }
+        }
+
+        private String getName(String image) {
+            return "indicator" + image + skin + "Image";
+        }
+
+        private BufferedImage read(String image) throws IOException {
+            File file = new File(srcDir, getName(image) + ".png");
+            return file.exists() ? ImageIO.read(file) : null;
+        }
+
+        private void write(String image, BufferedImage img) throws IOException {
+            ImageIO.write(img, "png", new File(bucketDir, getName(image) + ".png"));
+            names.add(getName(image));
+        }
+    }
+}